@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,8 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -30,14 +33,33 @@ dependencies {
 }
 
 // about source and compilation
+// 소스는 Java 17 기준으로 컴파일하고, -PjavaVersion=21 로 실행/테스트 JDK 만 올릴 수 있다. (virtual thread 모드)
+val javaVersion = providers.gradleProperty("javaVersion").getOrElse("17").toInt()
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(javaVersion))
+    }
+}
+tasks.withType<JavaCompile> {
+    options.release.set(17)
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// benchmark (src/jmh)
+// ./gradlew jmh -PjmhThreads=16 -PjmhIncludes=PointServiceBenchmark
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    threads.set(providers.gradleProperty("jmhThreads").map { it.toInt() }.getOrElse(8))
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    resultFormat.set("JSON")
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -0,0 +1,176 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.AsyncPointServiceImpl;
+import io.hhplus.tdd.point.PointController;
+
+/**
+ * 같은 충전 요청을 blocking API(/point)와 비동기 API(/async/point)에 한꺼번에 보내 비교한다.
+ * - burst : users 명에게 requestsPerUser 건씩 보낸 요청이 모두 끝나는 시간 (실패한 응답이 있으면 측정을 멈춘다)
+ * - probe : 요청이 몰린 동안 다른 사용자의 잔액 조회 응답 시간
+ * 서버가 동시에 처리 중인 요청 수(peakInFlight)와 늘어난 스레드 수(addedThreads)를 burst 결과에 함께 싣는다.
+ * (blocking 은 PointController 를 실행 중인 스레드 수, 비동기는 point.async.inflight)
+ * burst 하나와 probe 하나를 짝으로 실행하므로 -PjmhThreads=2 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncPointApiBenchmark {
+
+	private static final long PROBE_USER_ID = 1L;
+	private static final long POLL_MILLIS = 100L;
+
+	@Param({"/point", "/async/point"})
+	public String path;
+
+	@Param({"50"})
+	public int users;
+
+	@Param({"20"})
+	public int requestsPerUser;
+
+	private final AtomicLong nextUserId = new AtomicLong(PROBE_USER_ID + 1);
+	private ConfigurableApplicationContext context;
+	private AsyncPointServiceImpl asyncPointService;
+	private HttpClient httpClient;
+	private int port;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = SpringApplication.run(
+			TddApplication.class,
+			"--server.port=0", "--server.tomcat.max-connections=20000", "--spring.mvc.async.request-timeout=10m"
+		);
+		port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+		asyncPointService = context.getBean(AsyncPointServiceImpl.class);
+		httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * 충전 한도에 닿지 않도록 burst 마다 새로운 사용자들에게 보낸다.
+	 */
+	@Benchmark
+	@Group("load")
+	@GroupThreads(1)
+	public long burst(Peak peak) throws InterruptedException, ExecutionException {
+		long firstUserId = nextUserId.getAndAdd(users);
+		int baselineThreads = peak.threads.getThreadCount();
+		List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(users * requestsPerUser);
+		for (int i = 0; i < requestsPerUser; i++) {
+			for (int user = 0; user < users; user++) {
+				HttpRequest request = HttpRequest.newBuilder(URI.create(url(firstUserId + user) + "/charge"))
+					.method("PATCH", HttpRequest.BodyPublishers.ofString("1"))
+					.header("Content-Type", "application/json")
+					.timeout(Duration.ofMinutes(10))
+					.build();
+				responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+			}
+		}
+
+		CompletableFuture<Void> all = CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new));
+		while (true) {
+			peak.peakInFlight = Math.max(peak.peakInFlight, inFlight());
+			peak.addedThreads = Math.max(peak.addedThreads, peak.threads.getThreadCount() - baselineThreads);
+			try {
+				all.get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				break;
+			} catch (TimeoutException e) {
+				// 아직 처리 중인 요청이 있다.
+			}
+		}
+
+		long failed = responses.stream()
+			.map(CompletableFuture::join)
+			.filter(response -> response.statusCode() != 200)
+			.count();
+		if (failed > 0) {
+			throw new IllegalStateException(path + " 충전 요청 " + failed + "건이 실패했습니다.");
+		}
+		return responses.size();
+	}
+
+	@Benchmark
+	@Group("load")
+	@GroupThreads(1)
+	public int probe() throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url(PROBE_USER_ID)))
+			.timeout(Duration.ofMinutes(10))
+			.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private String url(long userId) {
+		return "http://localhost:" + port + path + "/" + userId;
+	}
+
+	private int inFlight() {
+		return path.equals("/point") ? threadsInPointController() : asyncPointService.inFlight();
+	}
+
+	/**
+	 * blocking API 에서 요청을 처리 중인(PointController 를 실행 중인) 스레드 수
+	 */
+	private static int threadsInPointController() {
+		return (int)Thread.getAllStackTraces().values().stream()
+			.filter(stack -> Arrays.stream(stack)
+				.anyMatch(frame -> frame.getClassName().equals(PointController.class.getName())))
+			.count();
+	}
+
+	/**
+	 * iteration 동안 burst 에서 관찰한 최댓값
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Peak {
+		private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		public int peakInFlight;
+		public int addedThreads;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			peakInFlight = 0;
+			addedThreads = 0;
+		}
+	}
+}
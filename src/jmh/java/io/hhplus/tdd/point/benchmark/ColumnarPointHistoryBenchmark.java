@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import io.hhplus.tdd.point.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 이력 저장소의 저장 처리량, 사용자별 조회 시간, 행당 힙 사용량을 비교한다.
+ * - TABLE : ArrayList<PointHistory> (PointHistoryTable 과 같은 구조, 지연 없이 락으로 보호)
+ * - COLUMNAR : ColumnarPointHistoryRepository
+ * append 는 rows 만큼 쌓일 때마다 새 저장소로 바꿔 힙이 계속 커지지 않게 한다. (버려진 저장소의 GC 비용도 포함된다)
+ * selectAllByUserId 는 rows 만큼 채운 저장소를 조회하고, 채운 뒤의 행당 힙을 bytesPerRow 로 함께 출력한다.
+ * GC 횟수/시간은 -prof gc 로 본다. (rows 를 늘리면 TABLE 은 -Xmx12g 이상 필요)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ColumnarPointHistoryBenchmark {
+
+	@Param({"COLUMNAR", "TABLE"})
+	public String store;
+
+	@Param({"10000000"})
+	public int rows;
+
+	@Param({"100000"})
+	public int users;
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public PointHistory append(Appending appending) {
+		long i = appending.appended.incrementAndGet();
+		PointHistoryRepository repository = appending.repository;
+		if (i % rows == 0) {
+			appending.repository = create();
+		}
+		return repository.save(history(i));
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public int selectAllByUserId(Loaded loaded, Footprint footprint) {
+		return loaded.repository.selectAllByUserId(ThreadLocalRandom.current().nextInt(users)).size();
+	}
+
+	private PointHistoryRepository create() {
+		return store.equals("COLUMNAR") ? new ColumnarPointHistoryRepository() : new ListPointHistoryRepository();
+	}
+
+	private PointHistory history(long i) {
+		TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+		return new PointHistory(0, i % users, 10, type, i);
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	@State(Scope.Benchmark)
+	public static class Appending {
+		private final AtomicLong appended = new AtomicLong();
+		private volatile PointHistoryRepository repository;
+
+		@Setup(Level.Trial)
+		public void setUp(ColumnarPointHistoryBenchmark benchmark) {
+			repository = benchmark.create();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Loaded {
+		private PointHistoryRepository repository;
+		private long bytesPerRow;
+
+		@Setup(Level.Trial)
+		public void setUp(ColumnarPointHistoryBenchmark benchmark) {
+			long before = usedHeap();
+			repository = benchmark.create();
+			for (int i = 0; i < benchmark.rows; i++) {
+				repository.save(benchmark.history(i));
+			}
+			bytesPerRow = (usedHeap() - before) / benchmark.rows;
+		}
+	}
+
+	/**
+	 * 채운 직후의 행당 힙을 결과에 함께 싣는다. (스레드 별 값이 합산되므로 첫 스레드만 싣는다)
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long bytesPerRow;
+
+		@Setup(Level.Iteration)
+		public void setUp(Loaded loaded, ThreadParams threadParams) {
+			bytesPerRow = threadParams.getThreadIndex() == 0 ? loaded.bytesPerRow : 0L;
+		}
+	}
+
+	/**
+	 * PointHistoryTable 과 같은 구조(ArrayList 에 PointHistory 추가, 스트림 필터 조회)에 지연 대신 락을 둔 저장소.
+	 */
+	private static class ListPointHistoryRepository implements PointHistoryRepository {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final List<PointHistory> table = new ArrayList<>();
+		private long cursor = 1;
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			lock.lock();
+			try {
+				PointHistory saved = new PointHistory(
+					cursor++, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()
+				);
+				table.add(saved);
+				return saved;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			lock.lock();
+			try {
+				return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+
+/**
+ * PointHistoryTable 의 무작위 지연(throttle) 대신 고정 지연을 주는 벤치마크용 저장소.
+ * 벤치마크는 이력 조회를 측정하지 않으므로 이력은 보관하지 않는다.
+ */
+public class FixedLatencyPointHistoryRepository implements PointHistoryRepository {
+
+	private final AtomicLong cursor = new AtomicLong();
+	private final long latencyNanos;
+
+	public FixedLatencyPointHistoryRepository(long latencyNanos) {
+		this.latencyNanos = latencyNanos;
+	}
+
+	@Override
+	public PointHistory save(PointHistory pointHistory) {
+		Latency.pause(latencyNanos);
+		return new PointHistory(
+			cursor.incrementAndGet(),
+			pointHistory.userId(),
+			pointHistory.amount(),
+			pointHistory.type(),
+			pointHistory.updateMillis()
+		);
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		return List.of();
+	}
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepository;
+
+/**
+ * UserPointTable 의 무작위 지연(throttle) 대신 고정 지연을 주는 벤치마크용 저장소
+ */
+public class FixedLatencyUserPointRepository implements UserPointRepository {
+
+	private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+	private final long latencyNanos;
+
+	public FixedLatencyUserPointRepository(long latencyNanos) {
+		this.latencyNanos = latencyNanos;
+	}
+
+	/**
+	 * 지연 없이 사용자 0 ~ (users - 1) 의 초기 잔액을 채운다.
+	 */
+	public void preload(int users, long point) {
+		for (long userId = 0; userId < users; userId++) {
+			table.put(userId, new UserPoint(userId, point, System.currentTimeMillis()));
+		}
+	}
+
+	@Override
+	public UserPoint save(UserPoint userPoint) {
+		Latency.pause(latencyNanos);
+		UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis());
+		table.put(saved.id(), saved);
+		return saved;
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		Latency.pause(latencyNanos);
+		return table.getOrDefault(id, UserPoint.empty(id));
+	}
+}
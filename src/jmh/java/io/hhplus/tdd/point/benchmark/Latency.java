@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.locks.LockSupport;
+
+final class Latency {
+
+	private Latency() {
+	}
+
+	/**
+	 * 테이블의 sleep 과 같이 스레드를 재워 지연을 만든다. (0 이면 지연 없음)
+	 */
+	static void pause(long nanos) {
+		if (nanos > 0) {
+			LockSupport.parkNanos(nanos);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.hhplus.tdd.TddApplication;
+
+/**
+ * GET /point/{id} 에 connections 건의 요청을 한꺼번에 보내 모두 끝나는 시간을 잰다. (실패한 응답이 있으면 측정을 멈춘다)
+ * - PLATFORM : 기본 Tomcat 스레드 풀(platform thread 200개)
+ * - VIRTUAL : virtual 프로필(요청마다 virtual thread, -PjavaVersion=21 로 실행)
+ * 요청 묶음 하나가 서버를 가득 채우므로 -PjmhThreads=1 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PointApiLoadBenchmark {
+
+	@Param({"PLATFORM", "VIRTUAL"})
+	public String threads;
+
+	@Param({"10000"})
+	public int connections;
+
+	private ConfigurableApplicationContext context;
+	private HttpClient httpClient;
+	private int port;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		List<String> args = new ArrayList<>(List.of("--server.port=0", "--server.tomcat.max-connections=20000"));
+		if (threads.equals("VIRTUAL")) {
+			args.add("--spring.profiles.active=virtual");
+		}
+		context = SpringApplication.run(TddApplication.class, args.toArray(String[]::new));
+		port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+		httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public long lookups() {
+		List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(connections);
+		for (int i = 0; i < connections; i++) {
+			HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + i))
+				.timeout(Duration.ofMinutes(5))
+				.build();
+			responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+		}
+		long failed = responses.stream()
+			.map(CompletableFuture::join)
+			.filter(response -> response.statusCode() != 200)
+			.count();
+		if (failed > 0) {
+			throw new IllegalStateException(threads + " 조회 요청 " + failed + "건이 실패했습니다.");
+		}
+		return responses.size();
+	}
+}
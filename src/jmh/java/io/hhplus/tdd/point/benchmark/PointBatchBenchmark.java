@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandResult;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 정산 작업처럼 한 호출자가 10,000 건의 충전/사용을 보낼 때,
+ * 건별 호출(singleCalls)과 일괄 처리(batch)의 처리량(ops/s)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PointBatchBenchmark {
+
+	private static final int OPERATIONS = 10_000;
+	private static final long INITIAL_POINT = 500L;
+
+	@Param({"LOCK", "COMBINING", "OPTIMISTIC"})
+	public PointExecutionMode mode;
+
+	@Param({"0", "100"})
+	public long latencyMicros;
+
+	@Param({"100", "10000"})
+	public int users;
+
+	@Param({"8"})
+	public int parallelism;
+
+	private PointService pointService;
+	private List<PointCommand> commands;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		FixedLatencyUserPointRepository userPointRepository = new FixedLatencyUserPointRepository(latencyNanos);
+		userPointRepository.preload(users, INITIAL_POINT);
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(mode);
+		pointProperties.getBatch().setParallelism(parallelism);
+		pointService = new PointServiceImpl(
+			userPointRepository,
+			new FixedLatencyPointHistoryRepository(latencyNanos),
+			pointProperties
+		);
+
+		// 충전 후 같은 금액을 사용해 잔액이 최대/최소 한도에 닿지 않도록 한다.
+		UserKeyDistribution.KeySampler keySampler = UserKeyDistribution.UNIFORM.sampler(users);
+		commands = new ArrayList<>(OPERATIONS);
+		for (int i = 0; i < OPERATIONS / 2; i++) {
+			long userId = keySampler.next();
+			commands.add(new PointCommand(userId, TransactionType.CHARGE, 1L));
+			commands.add(new PointCommand(userId, TransactionType.USE, 1L));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS)
+	public long singleCalls() {
+		long sum = 0;
+		for (PointCommand command : commands) {
+			sum += command.type() == TransactionType.CHARGE
+				? pointService.charge(command.userId(), command.amount()).point()
+				: pointService.use(command.userId(), command.amount()).point();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS)
+	public List<PointCommandResult> batch() {
+		return pointService.executeBatch(commands);
+	}
+}
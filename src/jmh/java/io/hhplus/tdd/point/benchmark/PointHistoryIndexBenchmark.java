@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.point.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 사용자별 이력 조회 시간을 전체 스캔과 사용자별 인덱스로 비교한다.
+ * - SCAN : PointHistoryTable 과 같은 방식(리스트 전체 스트림 필터), 지연 없음
+ * - INDEX : 같은 저장소를 IndexedPointHistoryRepository 로 감싼 경우
+ * rows 건의 이력을 users 명에게 나누어 채운 뒤 무작위 사용자의 이력을 조회한다. (rows 를 늘리면 -Xmx4g 이상 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryIndexBenchmark {
+
+	@Param({"INDEX", "SCAN"})
+	public String store;
+
+	@Param({"10000000"})
+	public int rows;
+
+	@Param({"100000"})
+	public int users;
+
+	private PointHistoryRepository repository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ScanPointHistoryRepository scan = new ScanPointHistoryRepository();
+		repository = store.equals("INDEX") ? new IndexedPointHistoryRepository(scan) : scan;
+		for (int i = 0; i < rows; i++) {
+			TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+			repository.save(new PointHistory(0, i % users, 10, type, i));
+		}
+	}
+
+	@Benchmark
+	public int selectAllByUserId() {
+		return repository.selectAllByUserId(ThreadLocalRandom.current().nextInt(users)).size();
+	}
+
+	/**
+	 * PointHistoryTable 과 같은 방식(리스트 전체 스트림 필터)으로 조회하되, 지연(throttle)은 없는 저장소.
+	 * 채운 뒤에는 조회만 하므로 락을 두지 않는다.
+	 */
+	private static class ScanPointHistoryRepository implements PointHistoryRepository {
+		private final List<PointHistory> table = new ArrayList<>();
+		private long cursor = 1;
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			PointHistory saved = new PointHistory(
+				cursor++, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()
+			);
+			table.add(saved);
+			return saved;
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+		}
+	}
+}
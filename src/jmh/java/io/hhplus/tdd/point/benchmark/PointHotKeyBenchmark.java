@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 요청이 소수의 사용자에게 몰릴 때(ZIPFIAN) hot user 만 combining 으로 처리하는 효과를 잰다.
+ * - LOCK : 모든 요청이 사용자 락을 하나씩 잡는다.
+ * - ADAPTIVE : LOCK 모드에서 hot user 로 탐지된 사용자의 요청만 모아서 처리한다.
+ * - COMBINING : 모든 사용자의 요청을 모아서 처리한다. (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointHotKeyBenchmark {
+
+	private static final long INITIAL_POINT = 500L;
+
+	@Param({"LOCK", "ADAPTIVE", "COMBINING"})
+	public String handling;
+
+	@Param({"ZIPFIAN", "UNIFORM"})
+	public UserKeyDistribution distribution;
+
+	@Param({"0", "100"})
+	public long latencyMicros;
+
+	@Param({"10000"})
+	public int users;
+
+	private PointServiceImpl pointService;
+	private UserKeyDistribution.KeySampler keySampler;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		FixedLatencyUserPointRepository userPointRepository = new FixedLatencyUserPointRepository(latencyNanos);
+		userPointRepository.preload(users, INITIAL_POINT);
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(handling.equals("COMBINING") ? PointExecutionMode.COMBINING : PointExecutionMode.LOCK);
+		pointProperties.getHotKey().setEnabled(handling.equals("ADAPTIVE"));
+		pointService = new PointServiceImpl(
+			userPointRepository,
+			new FixedLatencyPointHistoryRepository(latencyNanos),
+			pointProperties
+		);
+		keySampler = distribution.sampler(users);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pointService.close();
+	}
+
+	/**
+	 * 충전 후 같은 금액을 사용해 잔액이 최대/최소 한도에 닿지 않도록 한다.
+	 */
+	@Benchmark
+	public UserPoint chargeThenUse() {
+		long userId = keySampler.next();
+		pointService.charge(userId, 1L);
+		return pointService.use(userId, 1L);
+	}
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+
+/**
+ * 멱등 키 확인이 충전/사용 경로에 더하는 비용을 잰다.
+ * - withoutKey : 멱등 키 없이 충전 후 사용 (기준)
+ * - newKey : 매번 새 키로 충전 후 사용 (키 등록 + 결과 기록, 최대 개수를 넘으면 제거까지 포함)
+ * - replay : 이미 처리한 키로 충전 재요청 (락과 저장소 없이 기억한 결과만 반환)
+ * 충전 후 같은 금액을 사용해 잔액이 최대/최소 한도에 닿지 않도록 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointIdempotencyBenchmark {
+
+	private static final long INITIAL_POINT = 500L;
+	private static final int REPLAY_KEYS = 1024;
+
+	@Param({"0", "100"})
+	public long latencyMicros;
+
+	@Param({"10000"})
+	public int users;
+
+	@Param({"100000"})
+	public int maxSize;
+
+	private PointServiceImpl pointService;
+	private String[] replayKeys;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		FixedLatencyUserPointRepository userPointRepository = new FixedLatencyUserPointRepository(latencyNanos);
+		userPointRepository.preload(users, INITIAL_POINT);
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getIdempotency().setMaxSize(maxSize);
+		pointService = new PointServiceImpl(
+			userPointRepository,
+			new FixedLatencyPointHistoryRepository(latencyNanos),
+			pointProperties
+		);
+
+		// 사용자 i 의 키 "replay-i" 를 미리 한 번 처리해 둔다.
+		replayKeys = new String[REPLAY_KEYS];
+		for (int i = 0; i < REPLAY_KEYS; i++) {
+			replayKeys[i] = "replay-" + i;
+			pointService.charge(i % users, 1L, replayKeys[i]);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pointService.close();
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadKeys {
+		private static final AtomicInteger THREADS = new AtomicInteger();
+		private final String prefix = "t" + THREADS.getAndIncrement() + "-";
+		private long sequence;
+
+		private String next() {
+			return prefix + sequence++;
+		}
+	}
+
+	@Benchmark
+	public long withoutKey() {
+		long userId = ThreadLocalRandom.current().nextInt(users);
+		pointService.charge(userId, 1L);
+		return pointService.use(userId, 1L).point();
+	}
+
+	@Benchmark
+	public long newKey(ThreadKeys keys) {
+		long userId = ThreadLocalRandom.current().nextInt(users);
+		pointService.charge(userId, 1L, keys.next());
+		return pointService.use(userId, 1L, keys.next()).point();
+	}
+
+	@Benchmark
+	public long replay() {
+		int i = ThreadLocalRandom.current().nextInt(REPLAY_KEYS);
+		return pointService.charge(i % users, 1L, replayKeys[i]).point();
+	}
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+
+/**
+ * 조회 20 : 충전/사용 1 비율에서 조회용 뷰의 효과를 잰다.
+ * - readView=false : 잔액 조회도 저장소를 읽는다. (저장소 지연만큼 걸린다)
+ * - readView=true : 커밋된 잔액을 락 없이 뷰에서 읽는다. 쓰기는 저장 후 뷰 갱신 비용이 더해진다.
+ * 쓰기는 충전 후 같은 금액을 사용해 잔액이 한도에 닿지 않도록 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointReadViewBenchmark {
+
+	private static final long INITIAL_POINT = 500L;
+
+	@Param({"false", "true"})
+	public boolean readView;
+
+	@Param({"0", "100"})
+	public long latencyMicros;
+
+	@Param({"16", "10000"})
+	public int users;
+
+	private PointServiceImpl pointService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		FixedLatencyUserPointRepository userPointRepository = new FixedLatencyUserPointRepository(latencyNanos);
+		userPointRepository.preload(users, INITIAL_POINT);
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getReadView().setEnabled(readView);
+		pointService = new PointServiceImpl(
+			userPointRepository,
+			new FixedLatencyPointHistoryRepository(latencyNanos),
+			pointProperties
+		);
+		for (int i = 0; i < users; i++) {
+			pointService.findPointById(i); // 뷰를 미리 채운다.
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pointService.close();
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(20)
+	public long read() {
+		return pointService.findPointById(ThreadLocalRandom.current().nextInt(users)).point();
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(1)
+	public long write() {
+		long userId = ThreadLocalRandom.current().nextInt(users);
+		pointService.charge(userId, 1L);
+		return pointService.use(userId, 1L).point();
+	}
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSnapshotStore;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.WalFsyncPolicy;
+import io.hhplus.tdd.point.WalPointHistoryRepository;
+import io.hhplus.tdd.point.WalUserPointRepository;
+import io.hhplus.tdd.point.WriteAheadLog;
+
+/**
+ * 잔액 복구 시간을 로그 전체 재생과 스냅샷 + 이후 로그 재생으로 비교한다.
+ * 시작 시 한 번 일어나는 일이므로 복구 한 번을 SingleShotTime 으로 잰다. (-PjmhThreads=1 로 실행)
+ * 로그는 java.io.tmpdir 아래에 만들고 측정이 끝나면 지운다. 로그 크기만큼의 디스크와 사용자 수에 비례하는 힙이 필요하다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PointRecoveryBenchmark {
+
+	private static final double TAIL_RATIO = 0.01; // 스냅샷 이후 로그 비율
+	private static final int SEGMENT_SIZE = 256 * 1024 * 1024;
+
+	@Param({"1000000"})
+	public int users;
+
+	@Param({"10000000"})
+	public long rows;
+
+	private Path directory;
+	private Path walDirectory;
+	private PointSnapshotStore snapshotStore;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("point-recovery-benchmark");
+		walDirectory = Files.createDirectories(directory.resolve("wal"));
+		snapshotStore = new PointSnapshotStore(directory.resolve("snapshot"), 1);
+		long snapshotAt = (long)(rows * (1 - TAIL_RATIO));
+
+		try (WriteAheadLog writeAheadLog = open()) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog);
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			for (long i = 0; i < rows; i++) {
+				long userId = i % users;
+				pointHistoryRepository.save(new PointHistory(0, userId, 10L, TransactionType.CHARGE, i));
+				userPointRepository.save(new UserPoint(userId, (i / users + 1) * 10, 0L));
+				if (i == snapshotAt) {
+					userPointRepository.snapshot(snapshotStore, pointHistoryRepository::lastHistoryId);
+				}
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> {
+				try {
+					Files.delete(path);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public long fullReplay() {
+		try (WriteAheadLog writeAheadLog = open()) {
+			return new WalUserPointRepository(writeAheadLog).selectById(0L).point();
+		}
+	}
+
+	@Benchmark
+	public long snapshotAndTail() {
+		try (WriteAheadLog writeAheadLog = open()) {
+			return new WalUserPointRepository(writeAheadLog, snapshotStore).selectById(0L).point();
+		}
+	}
+
+	private WriteAheadLog open() {
+		return new WriteAheadLog(walDirectory, SEGMENT_SIZE, WalFsyncPolicy.OS, Duration.ZERO);
+	}
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.UserLockStrategy;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * PointService 의 충전/사용/조회를 실행 방식, 락 관리 방식, 사용자 분포, 테이블 지연별로 비교한다.
+ * Throughput(ops/s) 과 SampleTime(지연 백분위수)을 함께 측정하며, 스레드 수는 -PjmhThreads 로 정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PointServiceBenchmark {
+
+	private static final long INITIAL_POINT = 500L;
+
+	@Param({"LOCK", "COMBINING", "OPTIMISTIC", "SHARDED"})
+	public PointExecutionMode mode;
+
+	@Param({"REFERENCE_COUNTED", "STRIPED"})
+	public UserLockStrategy lockStrategy;
+
+	@Param({"UNIFORM", "ZIPFIAN", "SINGLE"})
+	public UserKeyDistribution distribution;
+
+	@Param({"0", "100"})
+	public long latencyMicros;
+
+	@Param({"10000"})
+	public int users;
+
+	private PointServiceImpl pointService;
+	private UserKeyDistribution.KeySampler keySampler;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		FixedLatencyUserPointRepository userPointRepository = new FixedLatencyUserPointRepository(latencyNanos);
+		userPointRepository.preload(users, INITIAL_POINT);
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(mode);
+		pointProperties.getLock().setStrategy(lockStrategy);
+		pointService = new PointServiceImpl(
+			userPointRepository,
+			new FixedLatencyPointHistoryRepository(latencyNanos),
+			pointProperties
+		);
+		keySampler = distribution.sampler(users);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pointService.close(); // SHARDED 모드의 shard 스레드 종료
+	}
+
+	/**
+	 * 충전 후 같은 금액을 사용해 잔액이 최대/최소 한도에 닿지 않도록 한다.
+	 */
+	@Benchmark
+	public UserPoint chargeThenUse() {
+		long userId = keySampler.next();
+		pointService.charge(userId, 1L);
+		return pointService.use(userId, 1L);
+	}
+
+	@Benchmark
+	public UserPoint findPointById() {
+		return pointService.findPointById(keySampler.next());
+	}
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.UserLockStrategy;
+
+/**
+ * 무작위 두 사용자 사이의 이체 처리량(ops/s).
+ * users 가 작을수록 같은 사용자를 양방향으로 이체하는 경합이 심해지며, 교착 상태가 생기면 측정이 끝나지 않는다.
+ * - transfer : 이체 한 번 (두 락을 순서대로 잡음)
+ * - useThenCharge : 기존 방식처럼 보낸 사용자의 사용 후 받는 사용자의 충전 (락/조회/저장 두 번, 원자적이지 않음)
+ * 잔액 부족/최대값 초과로 거절된 이체도 한 번으로 센다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointTransferBenchmark {
+
+	private static final long INITIAL_POINT = 500L;
+
+	@Param({"REFERENCE_COUNTED", "STRIPED"})
+	public UserLockStrategy lockStrategy;
+
+	@Param({"0", "100"})
+	public long latencyMicros;
+
+	@Param({"2", "16", "10000"})
+	public int users;
+
+	private PointServiceImpl pointService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		FixedLatencyUserPointRepository userPointRepository = new FixedLatencyUserPointRepository(latencyNanos);
+		userPointRepository.preload(users, INITIAL_POINT);
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setStrategy(lockStrategy);
+		pointService = new PointServiceImpl(
+			userPointRepository,
+			new FixedLatencyPointHistoryRepository(latencyNanos),
+			pointProperties
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pointService.close();
+	}
+
+	@Benchmark
+	public long transfer() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long from = random.nextInt(users);
+		long to = (from + random.nextInt(1, users)) % users;
+		try {
+			return pointService.transfer(from, to, random.nextInt(1, 50)).from().point();
+		} catch (PointValidationException e) {
+			return -1L;
+		}
+	}
+
+	@Benchmark
+	public long useThenCharge() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long from = random.nextInt(users);
+		long to = (from + random.nextInt(1, users)) % users;
+		long amount = random.nextInt(1, 50);
+		try {
+			pointService.use(from, amount);
+		} catch (PointValidationException e) {
+			return -1L;
+		}
+		try {
+			return pointService.charge(to, amount).point();
+		} catch (PointValidationException e) {
+			refund(from, amount);
+			return -1L;
+		}
+	}
+
+	/**
+	 * 받는 쪽이 거절되면 보낸 쪽에 되돌린다. 그 사이 보낸 쪽 잔액이 늘어 되돌릴 수 없으면 버린다.
+	 */
+	private void refund(long userId, long amount) {
+		try {
+			pointService.charge(userId, amount);
+		} catch (PointValidationException ignored) {
+			// 잔액 총합이 조금 줄어도 처리량 측정에는 영향이 없다.
+		}
+	}
+}
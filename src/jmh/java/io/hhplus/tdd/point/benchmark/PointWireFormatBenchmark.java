@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.hhplus.tdd.point.PointBinaryCodec;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 잔액/이력 응답 본문을 JSON(Jackson) 과 바이너리(PointBinaryCodec) 로 쓰는 비용을 비교한다.
+ * 응답 버퍼 대신 재사용하는 ByteArrayOutputStream 에 쓰고, 쓴 바이트 수를 반환한다. (-prof gc 로 할당량도 함께 본다)
+ * 바이너리 크기는 잔액 24바이트, 이력 목록 4 + 33 * 건수 바이트이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointWireFormatBenchmark {
+
+	@Param({"1", "100", "1000"})
+	public int histories;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(64 * 1024);
+	private UserPoint userPoint;
+	private List<PointHistory> pointHistories;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long now = System.currentTimeMillis();
+		userPoint = new UserPoint(123_456L, 750L, now);
+		pointHistories = new ArrayList<>(histories);
+		for (int i = 0; i < histories; i++) {
+			TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+			pointHistories.add(new PointHistory(1_000_000L + i, 123_456L, 100L + i % 900, type, now + i));
+		}
+	}
+
+	@Benchmark
+	public int userPointJson() throws IOException {
+		outputStream.reset();
+		objectMapper.writeValue(outputStream, userPoint);
+		return outputStream.size();
+	}
+
+	@Benchmark
+	public int userPointBinary() throws IOException {
+		outputStream.reset();
+		PointBinaryCodec.write(userPoint, outputStream);
+		return outputStream.size();
+	}
+
+	@Benchmark
+	public int historiesJson() throws IOException {
+		outputStream.reset();
+		objectMapper.writeValue(outputStream, pointHistories);
+		return outputStream.size();
+	}
+
+	@Benchmark
+	public int historiesBinary() throws IOException {
+		outputStream.reset();
+		PointBinaryCodec.write(pointHistories, outputStream);
+		return outputStream.size();
+	}
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import io.hhplus.tdd.point.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepository;
+
+/**
+ * 잔액 저장소의 사용자당 힙 사용량과 갱신 중 GC 비용을 비교한다.
+ * - MAP : ConcurrentHashMap<Long, UserPoint> (UserPointTable, WalUserPointRepository 와 같은 구조)
+ * - PRIMITIVE : PrimitiveUserPointRepository
+ * 사용자를 모두 채운 뒤 무작위 사용자의 잔액을 갱신한다. 채운 뒤의 사용자당 힙은 bytesPerUser 로 함께 출력된다.
+ * GC 횟수/시간은 -prof gc 로 본다. (users 를 늘리면 MAP 은 -Xmx8g 이상 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitiveUserPointRepositoryBenchmark {
+
+	@Param({"PRIMITIVE", "MAP"})
+	public String store;
+
+	@Param({"10000000"})
+	public int users;
+
+	private UserPointRepository repository;
+	private long bytesPerUser;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long before = usedHeap();
+		repository = store.equals("PRIMITIVE") ? new PrimitiveUserPointRepository(users, 64) : new MapUserPointRepository();
+		for (long id = 0; id < users; id++) {
+			repository.save(new UserPoint(id, id, 0L));
+		}
+		bytesPerUser = (usedHeap() - before) / users;
+	}
+
+	@Benchmark
+	public UserPoint update(Footprint footprint) {
+		long id = ThreadLocalRandom.current().nextLong(users);
+		return repository.save(new UserPoint(id, repository.selectById(id).point() + 1, 0L));
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * 채운 직후의 사용자당 힙을 결과에 함께 싣는다. (스레드 별 값이 합산되므로 첫 스레드만 싣는다)
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long bytesPerUser;
+
+		@Setup(Level.Iteration)
+		public void setUp(PrimitiveUserPointRepositoryBenchmark benchmark, ThreadParams threadParams) {
+			bytesPerUser = threadParams.getThreadIndex() == 0 ? benchmark.bytesPerUser : 0L;
+		}
+	}
+
+	private static class MapUserPointRepository implements UserPointRepository {
+		private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+		@Override
+		public UserPoint save(UserPoint userPoint) {
+			table.put(userPoint.id(), userPoint);
+			return userPoint;
+		}
+
+		@Override
+		public UserPoint selectById(long id) {
+			UserPoint userPoint = table.get(id);
+			return userPoint != null ? userPoint : UserPoint.empty(id);
+		}
+	}
+}
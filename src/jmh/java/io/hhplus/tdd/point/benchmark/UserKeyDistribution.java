@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 요청이 어떤 사용자에게 몰리는지를 정한다.
+ * - UNIFORM : 모든 사용자에게 고르게
+ * - ZIPFIAN : 소수의 인기 사용자에게 집중 (s = 1.0)
+ * - SINGLE : 한 사용자에게만
+ */
+public enum UserKeyDistribution {
+	UNIFORM, ZIPFIAN, SINGLE;
+
+	public KeySampler sampler(int users) {
+		return switch (this) {
+			case UNIFORM -> () -> ThreadLocalRandom.current().nextInt(users);
+			case ZIPFIAN -> new ZipfianSampler(users);
+			case SINGLE -> () -> 0L;
+		};
+	}
+
+	@FunctionalInterface
+	public interface KeySampler {
+		long next();
+	}
+
+	/**
+	 * 누적 분포를 미리 계산해 두고 이진 탐색으로 샘플링한다.
+	 */
+	private static class ZipfianSampler implements KeySampler {
+		private final double[] cumulative;
+
+		private ZipfianSampler(int users) {
+			cumulative = new double[users];
+			double sum = 0;
+			for (int rank = 1; rank <= users; rank++) {
+				sum += 1.0 / rank;
+				cumulative[rank - 1] = sum;
+			}
+			for (int i = 0; i < users; i++) {
+				cumulative[i] /= sum;
+			}
+		}
+
+		@Override
+		public long next() {
+			double value = ThreadLocalRandom.current().nextDouble();
+			int low = 0;
+			int high = cumulative.length - 1;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (cumulative[mid] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
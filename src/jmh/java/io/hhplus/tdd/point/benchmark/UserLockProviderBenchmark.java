@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import io.hhplus.tdd.point.ReferenceCountedUserLockProvider;
+import io.hhplus.tdd.point.StripedUserLockProvider;
+import io.hhplus.tdd.point.UserLockProvider;
+
+/**
+ * 사용자 락 관리 방식별 처리량과 남아 있는 락/힙을 비교한다.
+ * - UNBOUNDED : 한 번 만든 락을 제거하지 않는 방식 (변경 전 PointServiceImpl)
+ * - REFERENCE_COUNTED : ReferenceCountedUserLockProvider
+ * - STRIPED : StripedUserLockProvider (stripes 개)
+ * 시작할 때 모든 사용자의 락을 한 번씩 잡은 뒤 무작위 사용자의 락을 잡는다.
+ * 그 직후 남아 있는 락 수와 힙을 retainedLocks, retainedBytes 로 함께 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserLockProviderBenchmark {
+
+	@Param({"REFERENCE_COUNTED", "STRIPED", "UNBOUNDED"})
+	public String strategy;
+
+	@Param({"65536"})
+	public int stripes;
+
+	@Param({"1000000"})
+	public int users;
+
+	private final Supplier<Boolean> action = () -> Boolean.TRUE;
+	private UserLockProvider userLockProvider;
+	private int retainedLocks;
+	private long retainedBytes;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long before = usedHeap();
+		userLockProvider = switch (strategy) {
+			case "REFERENCE_COUNTED" -> new ReferenceCountedUserLockProvider();
+			case "STRIPED" -> new StripedUserLockProvider(stripes);
+			default -> new UnboundedUserLockProvider();
+		};
+		for (long userId = 0; userId < users; userId++) {
+			userLockProvider.withLock(userId, action);
+		}
+		retainedLocks = userLockProvider.size();
+		retainedBytes = usedHeap() - before;
+	}
+
+	@Benchmark
+	public Boolean withLock(Footprint footprint) {
+		return userLockProvider.withLock(ThreadLocalRandom.current().nextInt(users), action);
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * 모든 사용자를 거친 직후의 락 수와 힙을 결과에 함께 싣는다. (스레드 별 값이 합산되므로 첫 스레드만 싣는다)
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public int retainedLocks;
+		public long retainedBytes;
+
+		@Setup(Level.Iteration)
+		public void setUp(UserLockProviderBenchmark benchmark, ThreadParams threadParams) {
+			boolean first = threadParams.getThreadIndex() == 0;
+			retainedLocks = first ? benchmark.retainedLocks : 0;
+			retainedBytes = first ? benchmark.retainedBytes : 0L;
+		}
+	}
+
+	/**
+	 * 변경 전 PointServiceImpl 과 같은 방식: 한 번 만든 락을 제거하지 않는다.
+	 */
+	private static class UnboundedUserLockProvider implements UserLockProvider {
+		private final ConcurrentHashMap<Long, Lock> locks = new ConcurrentHashMap<>();
+
+		@Override
+		public <T> T withLock(long userId, Supplier<T> action) {
+			Lock lock = locks.computeIfAbsent(userId, key -> new ReentrantLock());
+			lock.lock();
+			try {
+				return action.get();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public int size() {
+			return locks.size();
+		}
+	}
+}
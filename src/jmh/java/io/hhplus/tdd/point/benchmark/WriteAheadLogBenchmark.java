@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.WalFsyncPolicy;
+import io.hhplus.tdd.point.WalUserPointRepository;
+import io.hhplus.tdd.point.WriteAheadLog;
+
+/**
+ * write-ahead log 의 초당 기록 수를 동기화 방식별로 측정한다.
+ * GROUP_COMMIT 은 동시에 기록하는 스레드가 많을수록 한 번의 동기화에 묶이는 레코드가 늘어나므로 -PjmhThreads 를 바꿔가며 비교한다.
+ * 로그는 java.io.tmpdir 아래에 만들고 측정이 끝나면 지운다. (OS 방식은 측정 중 수 GB 까지 커질 수 있다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WriteAheadLogBenchmark {
+
+	private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+	private static final byte HISTORY_RECORD_TYPE = 2; // WalPointHistoryRepository 와 같은 레코드 형식
+	private static final int HISTORY_PAYLOAD_SIZE = Long.BYTES * 4 + 1;
+
+	@Param({"OS", "GROUP_COMMIT", "PER_OP"})
+	public WalFsyncPolicy fsync;
+
+	private Path directory;
+	private WriteAheadLog writeAheadLog;
+	private WalUserPointRepository userPointRepository;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("point-wal-benchmark");
+		writeAheadLog = new WriteAheadLog(directory, SEGMENT_SIZE, fsync, Duration.ZERO);
+		userPointRepository = new WalUserPointRepository(writeAheadLog);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		writeAheadLog.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> {
+				try {
+					Files.delete(path);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	/**
+	 * 이력 저장소는 모든 이력을 메모리에도 보관하므로, 측정 중 힙이 커지지 않도록 같은 형식의 레코드를 로그에만 기록한다.
+	 */
+	@Benchmark
+	public long appendHistory() {
+		long userId = ThreadLocalRandom.current().nextInt(10_000);
+		return writeAheadLog.append(HISTORY_RECORD_TYPE, HISTORY_PAYLOAD_SIZE, buffer -> buffer
+			.putLong(0L)
+			.putLong(userId)
+			.putLong(1L)
+			.put((byte)TransactionType.CHARGE.ordinal())
+			.putLong(System.currentTimeMillis()));
+	}
+
+	@Benchmark
+	public UserPoint appendBalance() {
+		long userId = ThreadLocalRandom.current().nextInt(10_000);
+		return userPointRepository.save(new UserPoint(userId, 1L, 0L));
+	}
+}
@@ -1,10 +1,14 @@
 package io.hhplus.tdd;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import io.hhplus.tdd.point.UserLockRejectedException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 	@ExceptionHandler(value = Exception.class)
@@ -21,4 +25,21 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 	public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException e) {
 		return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
 	}
+
+	/**
+	 * 같은 사용자의 요청이 몰려 대기열이 가득 찼으면 429, 락 대기 시간을 넘겼으면 503 으로 응답한다.
+	 */
+	@ExceptionHandler(value = UserLockRejectedException.class)
+	public ResponseEntity<ErrorResponse> handleUserLockRejectedException(UserLockRejectedException e) {
+		int status = e.getReason() == UserLockRejectedException.Reason.QUEUE_FULL ? 429 : 503;
+		return ResponseEntity.status(status).body(new ErrorResponse(String.valueOf(status), e.getMessage()));
+	}
+
+	/**
+	 * 종료 중이라 요청을 실행하지 않았으면 503 으로 응답한다.
+	 */
+	@ExceptionHandler(value = RejectedExecutionException.class)
+	public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+		return ResponseEntity.status(503).body(new ErrorResponse("503", e.getMessage()));
+	}
 }
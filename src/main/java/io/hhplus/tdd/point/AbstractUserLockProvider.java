@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public abstract class AbstractUserLockProvider implements UserLockProvider {
+
+	private final PointMetrics pointMetrics;
+	private final UserLockPolicy policy;
+
+	protected AbstractUserLockProvider() {
+		this(PointMetrics.noop());
+	}
+
+	protected AbstractUserLockProvider(PointMetrics pointMetrics) {
+		this(pointMetrics, UserLockPolicy.unbounded());
+	}
+
+	protected AbstractUserLockProvider(PointMetrics pointMetrics, UserLockPolicy policy) {
+		this.pointMetrics = pointMetrics;
+		this.policy = policy;
+	}
+
+	@Override
+	public <T> T withLock(long userId, Supplier<T> action) {
+		UserLock lock = obtain(userId);
+		try {
+			if (lock.isHeldByCurrentThread()) {
+				// 이미 잡은 락(예: 같은 stripe 의 다른 사용자)은 기다리지 않으므로 대기열/시간 제한과 지표에서 제외한다.
+				lock.lock();
+				try {
+					return action.get();
+				} finally {
+					lock.unlock();
+				}
+			}
+			long waitStart = System.nanoTime();
+			acquire(lock);
+			long holdStart = System.nanoTime();
+			pointMetrics.recordLockWait(holdStart - waitStart);
+			try {
+				return action.get();
+			} finally {
+				lock.unlock();
+				pointMetrics.recordLockHold(System.nanoTime() - holdStart);
+			}
+		} finally {
+			release(userId, lock);
+		}
+	}
+
+	protected UserLockPolicy policy() {
+		return policy;
+	}
+
+	/**
+	 * 대기열이 가득 찼거나 제한 시간 안에 락을 얻지 못하면 UserLockRejectedException 이 발생한다.
+	 */
+	private void acquire(UserLock lock) {
+		if (policy.hasQueueLimit() && lock.waiting.incrementAndGet() > policy.maxQueueLength()) {
+			lock.waiting.decrementAndGet();
+			throw reject(UserLockRejectedException.Reason.QUEUE_FULL, "같은 사용자의 요청이 너무 많아 처리할 수 없습니다.");
+		}
+		try {
+			if (!policy.hasTimeout()) {
+				lock.lock();
+			} else if (!lock.tryLock(policy.timeout().toNanos(), TimeUnit.NANOSECONDS)) {
+				throw reject(UserLockRejectedException.Reason.TIMEOUT, "요청 처리 대기 시간을 초과했습니다.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("사용자 락 대기 중 인터럽트가 발생했습니다.", e);
+		} finally {
+			if (policy.hasQueueLimit()) {
+				lock.waiting.decrementAndGet();
+			}
+		}
+	}
+
+	private UserLockRejectedException reject(UserLockRejectedException.Reason reason, String message) {
+		pointMetrics.recordLockRejection(reason);
+		return new UserLockRejectedException(reason, message);
+	}
+
+	protected abstract UserLock obtain(long userId);
+
+	protected abstract void release(long userId, UserLock lock);
+
+	/**
+	 * 락을 얻으려고 기다리는(또는 막 얻으려는) 스레드 수를 함께 센다.
+	 */
+	protected static class UserLock extends ReentrantLock {
+		private final AtomicInteger waiting = new AtomicInteger();
+
+		protected UserLock(boolean fair) {
+			super(fair);
+		}
+	}
+}
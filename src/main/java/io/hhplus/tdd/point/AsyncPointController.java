@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointController 와 같은 API 를 CompletableFuture 로 반환한다.
+ * 요청 스레드는 future 를 반환하자마자 풀로 돌아가고, 응답은 future 가 완료될 때 async dispatch 로 쓰인다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/async/point")
+public class AsyncPointController {
+
+	private final AsyncPointService asyncPointService;
+
+	@GetMapping("{id}")
+	public CompletableFuture<UserPoint> point(
+		@PathVariable(name = "id") long id
+	) {
+		return asyncPointService.findPointById(id);
+	}
+
+	@GetMapping("{id}/histories")
+	public CompletableFuture<List<PointHistory>> history(
+		@PathVariable(name = "id") long id,
+		@RequestParam(name = "cursor", required = false) Long cursor,
+		@RequestParam(name = "size", required = false) Integer size,
+		@RequestParam(name = "from", required = false) Long from,
+		@RequestParam(name = "to", required = false) Long to
+	) {
+		if (cursor == null && size == null && from == null && to == null) {
+			return asyncPointService.findPointHistoryAllById(id);
+		}
+		return asyncPointService.findPointHistories(id, PointHistoryCondition.of(cursor, size, from, to));
+	}
+
+	@GetMapping("{id}/summary")
+	public CompletableFuture<PointSummary> summary(
+		@PathVariable(name = "id") long id
+	) {
+		return asyncPointService.findPointSummary(id);
+	}
+
+	@PatchMapping("{id}/charge")
+	public CompletableFuture<UserPoint> charge(
+		@PathVariable(name = "id") long id,
+		@RequestBody long amount
+	) {
+		return asyncPointService.charge(id, amount);
+	}
+
+	@PatchMapping("{id}/use")
+	public CompletableFuture<UserPoint> use(
+		@PathVariable(name = "id") long id,
+		@RequestBody long amount
+	) {
+		return asyncPointService.use(id, amount);
+	}
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 스레드를 붙잡지 않는 PointService.
+ * 같은 사용자의 요청은 호출 순서대로 하나씩 실행되고, 결과는 CompletableFuture 로 받는다.
+ */
+public interface AsyncPointService {
+
+	CompletableFuture<UserPoint> findPointById(long id);
+
+	CompletableFuture<List<PointHistory>> findPointHistoryAllById(long id);
+
+	CompletableFuture<List<PointHistory>> findPointHistories(long id, PointHistoryCondition condition);
+
+	CompletableFuture<PointSummary> findPointSummary(long id);
+
+	CompletableFuture<UserPoint> charge(long id, long amount);
+
+	CompletableFuture<UserPoint> use(long id, long amount);
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * PointService 호출을 I/O 전용 스레드 풀에서 실행하는 AsyncPointService.
+ * - 사용자마다 마지막 요청의 future(tail)만 기억하고, 새 요청은 tail 이 끝난 뒤 풀에 제출한다.
+ *   따라서 같은 사용자의 요청은 도착 순서대로 하나씩 실행되고, 한 사용자가 동시에 점유하는 풀 스레드는 최대 하나이다.
+ * - 앞 요청을 기다리는 요청은 future 로만 남으므로 스레드를 점유하지 않는다. (대기 중인 요청 수는 스레드 수와 무관)
+ * - 앞 요청이 실패해도 다음 요청은 실행된다.
+ * 테이블 호출 자체는 blocking 이므로 동시에 대기할 수 있는 테이블 호출 수는 point.async.parallelism 이다.
+ */
+@Service
+public class AsyncPointServiceImpl implements AsyncPointService, AutoCloseable {
+
+	private final ConcurrentHashMap<Long, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final PointService pointService;
+	private final ExecutorService executor;
+
+	private volatile boolean closed;
+
+	public AsyncPointServiceImpl(PointService pointService, PointProperties pointProperties) {
+		this(pointService, pointProperties, PointMetrics.noop());
+	}
+
+	@Autowired
+	public AsyncPointServiceImpl(PointService pointService, PointProperties pointProperties, PointMetrics pointMetrics) {
+		if (pointProperties.getAsync().getParallelism() <= 0) {
+			throw new IllegalArgumentException("비동기 실행 스레드 수는 양수이어야 합니다.");
+		}
+		this.pointService = pointService;
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(pointProperties.getAsync().getParallelism(), runnable -> {
+			Thread thread = new Thread(runnable, "point-async-" + sequence.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		});
+		pointMetrics.bindAsyncInFlight(this);
+	}
+
+	@Override
+	public CompletableFuture<UserPoint> findPointById(long id) {
+		return enqueue(id, () -> pointService.findPointById(id));
+	}
+
+	@Override
+	public CompletableFuture<List<PointHistory>> findPointHistoryAllById(long id) {
+		return enqueue(id, () -> pointService.findPointHistoryAllById(id));
+	}
+
+	@Override
+	public CompletableFuture<List<PointHistory>> findPointHistories(long id, PointHistoryCondition condition) {
+		return enqueue(id, () -> pointService.findPointHistories(id, condition));
+	}
+
+	@Override
+	public CompletableFuture<PointSummary> findPointSummary(long id) {
+		return enqueue(id, () -> pointService.findPointSummary(id));
+	}
+
+	@Override
+	public CompletableFuture<UserPoint> charge(long id, long amount) {
+		return enqueue(id, () -> pointService.charge(id, amount));
+	}
+
+	@Override
+	public CompletableFuture<UserPoint> use(long id, long amount) {
+		return enqueue(id, () -> pointService.use(id, amount));
+	}
+
+	/**
+	 * 받았지만 아직 끝나지 않은 요청 수 (앞 요청을 기다리는 요청 포함)
+	 */
+	public int inFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * 새 요청을 받지 않는다. 이미 풀에 제출된 요청은 끝까지 실행되고, 앞 요청을 기다리던 요청은 예외로 완료된다.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		executor.shutdown();
+	}
+
+	/**
+	 * 사용자의 tail 을 새 요청으로 바꾸고, 이전 tail 이 끝나면 풀에 제출한다.
+	 */
+	private <T> CompletableFuture<T> enqueue(long id, Supplier<T> task) {
+		if (closed) {
+			return CompletableFuture.failedFuture(new IllegalStateException("포인트 비동기 실행기가 종료되었습니다."));
+		}
+		CompletableFuture<T> result = new CompletableFuture<>();
+		inFlight.incrementAndGet();
+		CompletableFuture<?> previous = tails.put(id, result);
+		if (previous == null) {
+			submit(id, task, result);
+		} else {
+			previous.whenComplete((value, e) -> submit(id, task, result));
+		}
+		return result;
+	}
+
+	private <T> void submit(long id, Supplier<T> task, CompletableFuture<T> result) {
+		try {
+			executor.execute(() -> {
+				T value;
+				try {
+					value = task.get();
+				} catch (RuntimeException e) {
+					finish(id, result);
+					result.completeExceptionally(e);
+					return;
+				}
+				finish(id, result);
+				result.complete(value);
+			});
+		} catch (RejectedExecutionException e) {
+			finish(id, result);
+			result.completeExceptionally(new IllegalStateException("포인트 비동기 실행기가 종료되었습니다.", e));
+		}
+	}
+
+	/**
+	 * 결과를 완료하기 전에 호출한다. 자신이 여전히 tail 이면 항목을 지워 사용자 수만큼 map 이 커지지 않게 한다.
+	 * 실행은 이미 끝났으므로, 그 사이에 들어온 요청이 바로 실행되어도 순서는 유지된다.
+	 */
+	private void finish(long id, CompletableFuture<?> result) {
+		tails.remove(id, result);
+		inFlight.decrementAndGet();
+	}
+}
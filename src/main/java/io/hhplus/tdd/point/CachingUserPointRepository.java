@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointRepository 앞에 두는 write-through 캐시.
+ * 잔액은 서비스만 변경하므로 save 시점에 캐시를 함께 갱신하면 테이블과 캐시가 같은 값을 유지한다.
+ * 최대 크기를 넘으면 segment 별로 가장 오래 조회되지 않은 사용자부터 제거한다. (LRU)
+ */
+public class CachingUserPointRepository implements UserPointRepository {
+
+	private static final int SEGMENTS = 16;
+
+	private final UserPointRepository delegate;
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public CachingUserPointRepository(UserPointRepository delegate, int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("캐시 최대 크기는 양수이어야 합니다.");
+		}
+		this.delegate = delegate;
+		int segmentCapacity = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments[i] = new Segment(segmentCapacity);
+		}
+	}
+
+	@Override
+	public UserPoint save(UserPoint userPoint) {
+		Segment segment = segmentOf(userPoint.id());
+		try {
+			UserPoint saved = delegate.save(userPoint);
+			segment.put(saved.id(), saved);
+			return saved;
+		} catch (RuntimeException e) {
+			segment.remove(userPoint.id()); // 저장 결과를 알 수 없으므로 다음 조회 때 테이블에서 다시 읽는다.
+			throw e;
+		}
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		Segment segment = segmentOf(id);
+		UserPoint cached = segment.get(id);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+		// 조회하는 사이 save 가 먼저 캐시를 채웠다면 그 값을 우선한다.
+		return segment.putIfAbsent(id, delegate.selectById(id));
+	}
+
+	public CacheStats stats() {
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+	}
+
+	private Segment segmentOf(long id) {
+		return segments[Long.hashCode(id * 0x9E3779B97F4A7C15L) & (SEGMENTS - 1)];
+	}
+
+	public record CacheStats(
+		long hits,
+		long misses,
+		long evictions,
+		int size
+	) {
+	}
+
+	private class Segment {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<Long, UserPoint> entries;
+
+		private Segment(int capacity) {
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+					if (size() > capacity) {
+						evictions.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		private UserPoint get(long id) {
+			lock.lock();
+			try {
+				return entries.get(id);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void put(long id, UserPoint userPoint) {
+			lock.lock();
+			try {
+				entries.put(id, userPoint);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private UserPoint putIfAbsent(long id, UserPoint userPoint) {
+			lock.lock();
+			try {
+				UserPoint present = entries.putIfAbsent(id, userPoint);
+				return present != null ? present : userPoint;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void remove(long id) {
+			lock.lock();
+			try {
+				entries.remove(id);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private int size() {
+			lock.lock();
+			try {
+				return entries.size();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package io.hhplus.tdd.point;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 이력을 열(column) 단위 primitive 배열에 저장하는 PointHistoryRepository.
+ * - 이력 한 건은 청크 안의 같은 위치에 있는 userId, amount, updateMillis(long) 와 type(byte) 이다. (행당 25바이트, 객체 없음)
+ * - id 는 행 위치 + 1 이므로 따로 저장하지 않는다.
+ * - 저장은 cursor 를 원자적으로 증가시켜 위치를 예약하고 그 위치에 쓰므로 락이 없다.
+ *   type 을 마지막에 release 로 기록해 공개 표시로 쓰고, 조회는 type 을 acquire 로 읽어 0 이면 아직 쓰는 중인 행으로 보고 건너뛴다.
+ * - PointHistory 는 조회할 때만 만든다.
+ */
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+	private static final int CHUNK_BITS = 16;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	private static final int MAX_CHUNKS = 1 << 15; // 최대 2^31 행
+	private static final byte UNPUBLISHED = 0;
+	private static final TransactionType[] TYPES = TransactionType.values();
+	private static final VarHandle TYPE = MethodHandles.arrayElementVarHandle(byte[].class);
+
+	private final AtomicReferenceArray<Chunk> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+	private final AtomicLong cursor = new AtomicLong();
+
+	@Override
+	public PointHistory save(PointHistory pointHistory) {
+		long row = cursor.getAndIncrement();
+		if (row >= (long)MAX_CHUNKS * CHUNK_SIZE) {
+			throw new IllegalStateException("이력 저장소가 가득 찼습니다.");
+		}
+		Chunk chunk = chunkForWrite((int)(row >>> CHUNK_BITS));
+		int offset = (int)row & CHUNK_MASK;
+		chunk.userIds[offset] = pointHistory.userId();
+		chunk.amounts[offset] = pointHistory.amount();
+		chunk.updateMillis[offset] = pointHistory.updateMillis();
+		TYPE.setRelease(chunk.types, offset, (byte)(pointHistory.type().ordinal() + 1));
+		return new PointHistory(
+			row + 1, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()
+		);
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		List<PointHistory> histories = new ArrayList<>();
+		scan(userId, 0, Integer.MAX_VALUE, null, histories::add);
+		return histories;
+	}
+
+	@Override
+	public List<PointHistory> selectByUserId(long userId, PointHistoryCondition condition) {
+		List<PointHistory> page = new ArrayList<>(Math.min(condition.size(), PointHistoryCondition.MAXIMUM_SIZE));
+		forEachByUserId(userId, condition, page::add);
+		return page;
+	}
+
+	/**
+	 * id 가 행 위치 + 1 이므로 cursor 다음 행부터 읽는다.
+	 */
+	@Override
+	public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+		scan(userId, Math.max(0, condition.cursor()), condition.size(), condition, action);
+	}
+
+	/**
+	 * 저장된 행 수 (쓰는 중인 행 포함)
+	 */
+	public long size() {
+		return Math.min(cursor.get(), (long)MAX_CHUNKS * CHUNK_SIZE);
+	}
+
+	/**
+	 * userId 열만 먼저 비교하고, 같은 사용자의 공개된 행만 PointHistory 로 만든다.
+	 */
+	private void scan(long userId, long fromRow, int limit, PointHistoryCondition condition, Consumer<PointHistory> action) {
+		long toRow = size();
+		int matched = 0;
+		for (long row = fromRow; row < toRow && matched < limit; ) {
+			Chunk chunk = chunks.get((int)(row >>> CHUNK_BITS));
+			int end = (int)Math.min(CHUNK_SIZE, toRow - (row & ~(long)CHUNK_MASK));
+			if (chunk == null) { // 예약만 되고 청크가 아직 만들어지지 않음
+				row = (row & ~(long)CHUNK_MASK) + end;
+				continue;
+			}
+			long[] userIds = chunk.userIds;
+			for (int offset = (int)row & CHUNK_MASK; offset < end && matched < limit; offset++) {
+				if (userIds[offset] != userId) {
+					continue;
+				}
+				byte type = (byte)TYPE.getAcquire(chunk.types, offset);
+				if (type == UNPUBLISHED || userIds[offset] != userId) { // 공개 전에 읽은 userId 는 믿을 수 없으므로 다시 확인한다.
+					continue;
+				}
+				PointHistory pointHistory = new PointHistory(
+					(row & ~(long)CHUNK_MASK) + offset + 1, userId, chunk.amounts[offset], TYPES[type - 1], chunk.updateMillis[offset]
+				);
+				if (condition == null || condition.matches(pointHistory)) {
+					action.accept(pointHistory);
+					matched++;
+				}
+			}
+			row = (row & ~(long)CHUNK_MASK) + end;
+		}
+	}
+
+	private Chunk chunkForWrite(int index) {
+		Chunk chunk = chunks.get(index);
+		if (chunk != null) {
+			return chunk;
+		}
+		chunks.compareAndSet(index, null, new Chunk());
+		return chunks.get(index);
+	}
+
+	private static final class Chunk {
+		private final long[] userIds = new long[CHUNK_SIZE];
+		private final long[] amounts = new long[CHUNK_SIZE];
+		private final long[] updateMillis = new long[CHUNK_SIZE];
+		private final byte[] types = new byte[CHUNK_SIZE];
+	}
+}
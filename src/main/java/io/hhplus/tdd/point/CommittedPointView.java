@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 커밋된(잔액과 이력 저장이 모두 끝난) 잔액만 담는 조회용 뷰.
+ * - 잔액은 잔액을 바꾸는 쪽(사용자 락, shard 스레드, OPTIMISTIC 저장 락)만 publish 하므로, 한 사용자의 publish 는 커밋 순서대로 일어난다.
+ * - 조회는 ConcurrentHashMap.get 한 번으로 락을 잡지 않으므로 진행 중인 충전/사용을 기다리지 않고, 저장 중인 중간 잔액을 보지 않는다.
+ * - 뷰에 없는 사용자는 커밋된 잔액을 읽어 fill 로 채운다. 그 사이 publish 된 잔액이 있으면 그 값을 우선한다.
+ * - 저장이 실패해 결과를 알 수 없으면 invalidate 로 지워 다음 조회 때 다시 읽는다.
+ * 사용자별 잔액은 메모리에 계속 유지된다.
+ */
+public class CommittedPointView {
+
+	private static final CommittedPointView DISABLED = new CommittedPointView(false);
+
+	private final ConcurrentHashMap<Long, UserPoint> points = new ConcurrentHashMap<>();
+	private final boolean enabled;
+
+	public CommittedPointView() {
+		this(true);
+	}
+
+	private CommittedPointView(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 아무것도 기억하지 않는 뷰. get 은 항상 null 을 반환한다.
+	 */
+	public static CommittedPointView disabled() {
+		return DISABLED;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 커밋된 잔액. 뷰에 없으면 null
+	 */
+	public UserPoint get(long id) {
+		return enabled ? points.get(id) : null;
+	}
+
+	/**
+	 * 커밋 직후 호출한다.
+	 */
+	public void publish(UserPoint userPoint) {
+		if (enabled) {
+			points.put(userPoint.id(), userPoint);
+		}
+	}
+
+	/**
+	 * 커밋된 잔액을 읽어 채운다. 이미 publish 된 잔액이 있으면 그 값을 반환한다.
+	 */
+	public UserPoint fill(UserPoint committed) {
+		if (!enabled) {
+			return committed;
+		}
+		UserPoint present = points.putIfAbsent(committed.id(), committed);
+		return present != null ? present : committed;
+	}
+
+	public void invalidate(long id) {
+		if (enabled) {
+			points.remove(id);
+		}
+	}
+
+	public int size() {
+		return points.size();
+	}
+}
@@ -0,0 +1,291 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 충전/사용 요청이 몰리는 사용자(hot user)를 찾는다.
+ * - 요청 sampleRate 건 중 한 건만 표본으로 count-min sketch(행 4개)에 더한다. 카운터는 AtomicLongArray 이므로 기록에 락이 없다.
+ * - 추정 횟수가 충분히 큰 사용자만 상위 topK 후보에 올린다. 후보 갱신은 사용자의 추정 횟수가 16의 배수가 될 때만 tryLock 으로 하고,
+ *   다른 스레드가 갱신 중이면 건너뛴다. (요청이 몰리는 사용자는 표본에 자주 나오므로 일부를 건너뛰어도 곧 후보에 오른다)
+ * - 표본이 window 의 두 배가 되면 모든 카운터를 절반으로 줄여 오래된 요청의 영향을 줄인다. (지수 감쇠)
+ * - 표본 중 hotShare 이상을 차지하면 hot 이 되고, hotShare / 2 아래로 내려가면 다시 cold 가 된다. (경계에서 오가지 않도록)
+ * hot 사용자 목록은 새 배열로 교체해 공개하므로 isHot 은 volatile 읽기 한 번과 topK 이하의 비교다.
+ */
+public class HotUserDetector {
+
+	private static final int DEPTH = 4;
+	private static final int WIDTH = 1 << 11;
+	private static final long MINIMUM_HOT_COUNT = 32L; // 표본이 적을 때 우연히 hot 으로 판단하지 않도록
+	private static final int MAINTENANCE_INTERVAL = 16; // 후보 갱신 주기 (사용자별 추정 횟수, 2의 거듭제곱)
+	private static final HotUserDetector DISABLED = new HotUserDetector(false, false, 1, 1, 1, 1.0, PointMetrics.noop());
+
+	private final boolean enabled;
+	private final boolean adaptive;
+	private final int sampleRate;
+	private final int window;
+	private final double hotShare;
+	private final PointMetrics pointMetrics;
+
+	private final AtomicLongArray counts = new AtomicLongArray(DEPTH * WIDTH);
+	private final AtomicLong samples = new AtomicLong(); // 감쇠를 반영한 표본 수
+	private final ReentrantLock lock = new ReentrantLock();
+	// 아래 후보 필드는 lock 안에서만 읽고 쓴다.
+	private final long[] candidateIds;
+	private final long[] candidateCounts;
+	private final boolean[] candidateHot;
+	private int candidateSize;
+
+	private volatile long[] hotUsers = new long[0];
+
+	private HotUserDetector(
+		boolean enabled,
+		boolean adaptive,
+		int sampleRate,
+		int topK,
+		int window,
+		double hotShare,
+		PointMetrics pointMetrics
+	) {
+		if (sampleRate <= 0 || topK <= 0 || window <= 0) {
+			throw new IllegalArgumentException("표본 비율, 후보 수, 감쇠 주기는 양수이어야 합니다.");
+		}
+		if (hotShare <= 0 || hotShare > 1) {
+			throw new IllegalArgumentException("hot 판단 비율은 0 초과 1 이하이어야 합니다.");
+		}
+		this.enabled = enabled;
+		this.adaptive = adaptive;
+		this.sampleRate = sampleRate;
+		this.window = window;
+		this.hotShare = hotShare;
+		this.pointMetrics = pointMetrics;
+		this.candidateIds = new long[topK];
+		this.candidateCounts = new long[topK];
+		this.candidateHot = new boolean[topK];
+	}
+
+	public static HotUserDetector create(PointProperties.HotKey properties) {
+		return create(properties, PointMetrics.noop());
+	}
+
+	public static HotUserDetector create(PointProperties.HotKey properties, PointMetrics pointMetrics) {
+		if (!properties.isEnabled()) {
+			return DISABLED;
+		}
+		return new HotUserDetector(
+			true,
+			properties.isAdaptive(),
+			properties.getSampleRate(),
+			properties.getTopK(),
+			properties.getWindow(),
+			properties.getHotShare(),
+			pointMetrics
+		);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * hot 사용자의 요청을 모아서 처리(combining)할지 여부
+	 */
+	public boolean isAdaptive() {
+		return adaptive;
+	}
+
+	public void record(long userId) {
+		if (!enabled || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0)) {
+			return;
+		}
+		long hash = hash(userId);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < DEPTH; row++) {
+			estimate = Math.min(estimate, counts.incrementAndGet(indexOf(hash, row)));
+		}
+		long total = samples.incrementAndGet();
+		boolean decay = total >= 2L * window;
+		boolean candidate = (estimate & (MAINTENANCE_INTERVAL - 1)) == 0
+			&& estimate >= Math.max(MINIMUM_HOT_COUNT, (long)(total * hotShare / 2));
+		if ((decay || candidate) && lock.tryLock()) {
+			try {
+				if (decay && samples.get() >= 2L * window) {
+					decay();
+				}
+				refresh();
+				if (candidate) {
+					offer(userId, estimateOf(hash));
+				}
+				publish();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	public boolean isHot(long userId) {
+		for (long hotUser : hotUsers) {
+			if (hotUser == userId) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public int hotUserCount() {
+		return hotUsers.length;
+	}
+
+	/**
+	 * 후보 사용자를 추정 횟수가 큰 순서로 반환한다.
+	 */
+	public Report report() {
+		lock.lock();
+		try {
+			refresh();
+			long total = samples.get();
+			List<HotUser> users = new ArrayList<>(candidateSize);
+			for (int i = 0; i < candidateSize; i++) {
+				users.add(new HotUser(candidateIds[i], candidateCounts[i], share(candidateCounts[i], total), candidateHot[i]));
+			}
+			users.sort(Comparator.comparingLong(HotUser::estimate).reversed());
+			return new Report(enabled, adaptive, sampleRate, total, users);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * lock 안에서 호출된다.
+	 */
+	private void decay() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.getAndUpdate(i, count -> count >> 1);
+		}
+		long total = samples.get();
+		samples.addAndGet(-(total - (total >> 1)));
+	}
+
+	/**
+	 * lock 안에서 호출된다. 후보의 추정 횟수를 sketch 에서 다시 읽는다.
+	 */
+	private void refresh() {
+		for (int i = 0; i < candidateSize; i++) {
+			candidateCounts[i] = estimateOf(hash(candidateIds[i]));
+		}
+	}
+
+	/**
+	 * lock 안에서 호출된다. 후보가 가득 차면 추정 횟수가 가장 작은 후보와 바꾼다.
+	 */
+	private void offer(long userId, long estimate) {
+		int min = 0;
+		for (int i = 0; i < candidateSize; i++) {
+			if (candidateIds[i] == userId) {
+				return;
+			}
+			if (candidateCounts[i] < candidateCounts[min]) {
+				min = i;
+			}
+		}
+		if (candidateSize < candidateIds.length) {
+			min = candidateSize++;
+		} else if (estimate <= candidateCounts[min]) {
+			return;
+		} else if (candidateHot[min]) {
+			pointMetrics.recordHotUserTransition(false);
+		}
+		candidateIds[min] = userId;
+		candidateCounts[min] = estimate;
+		candidateHot[min] = false;
+	}
+
+	/**
+	 * lock 안에서 호출된다. 후보마다 hot 여부를 다시 판단하고, hot 목록이 바뀌었으면 새 배열로 공개한다.
+	 */
+	private void publish() {
+		long total = samples.get();
+		boolean changed = false;
+		int hotCount = 0;
+		for (int i = 0; i < candidateSize; i++) {
+			double share = share(candidateCounts[i], total);
+			boolean wasHot = candidateHot[i];
+			candidateHot[i] = wasHot
+				? share >= hotShare / 2
+				: candidateCounts[i] >= MINIMUM_HOT_COUNT && share >= hotShare;
+			if (candidateHot[i] != wasHot) {
+				pointMetrics.recordHotUserTransition(candidateHot[i]);
+			}
+			if (candidateHot[i]) {
+				changed |= !wasHot;
+				hotCount++;
+			}
+		}
+		if (!changed && hotCount == hotUsers.length) {
+			return; // 새로 hot 이 된 사용자가 없고 수가 같으면 cold 가 된 사용자도 없다. (offer 로 밀려난 hot 후보는 수가 줄어든다)
+		}
+		long[] hot = new long[hotCount];
+		for (int i = 0, j = 0; i < candidateSize; i++) {
+			if (candidateHot[i]) {
+				hot[j++] = candidateIds[i];
+			}
+		}
+		hotUsers = hot;
+	}
+
+	private long estimateOf(long hash) {
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < DEPTH; row++) {
+			estimate = Math.min(estimate, counts.get(indexOf(hash, row)));
+		}
+		return estimate;
+	}
+
+	private static double share(long count, long total) {
+		return total == 0 ? 0 : (double)count / total;
+	}
+
+	/**
+	 * 64비트 해시의 두 절반으로 행마다 다른 위치를 만든다. (double hashing)
+	 */
+	private static int indexOf(long hash, int row) {
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32) | 1;
+		return row * WIDTH + ((h1 + row * h2) & (WIDTH - 1));
+	}
+
+	/**
+	 * murmur3 fmix64
+	 */
+	private static long hash(long userId) {
+		long h = userId;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	public record HotUser(
+		long userId,
+		long estimate, // 감쇠를 반영한 표본 중 추정 요청 수
+		double share, // 표본 중 차지하는 비율
+		boolean hot
+	) {
+	}
+
+	public record Report(
+		boolean enabled,
+		boolean adaptive,
+		int sampleRate,
+		long samples,
+		List<HotUser> candidates
+	) {
+	}
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GET /actuator/hotusers : hot user 후보와 hot 여부를 추정 요청 수가 큰 순서로 반환한다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "hotusers")
+public class HotUserEndpoint {
+
+	private final HotUserDetector hotUserDetector;
+
+	@ReadOperation
+	public HotUserDetector.Report hotUsers() {
+		return hotUserDetector.report();
+	}
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 ID -> 이력 목록 인덱스를 함께 유지하는 PointHistoryRepository.
+ * 테이블 조회는 전체 이력을 훑지만, 인덱스 조회는 해당 사용자의 이력 수에만 비례한다.
+ * - 비어 있는 상태로 시작하는 저장소(테이블, 열 단위 배열)는 생성자로 빈 인덱스에서 시작한다.
+ * - 이력이 남아 있는 저장소(재시작 후 WAL)는 load 로 delegate 의 이력 전체를 한 번 훑어 인덱스를 채운다.
+ * 이 저장소를 거치지 않고 delegate 에 직접 쓴 이력은 조회되지 않으며, 이력이 없는 사용자는 인덱스에 추가하지 않는다.
+ */
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+	private final PointHistoryRepository delegate;
+	private final ConcurrentHashMap<Long, UserHistories> index = new ConcurrentHashMap<>();
+
+	public IndexedPointHistoryRepository(PointHistoryRepository delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * delegate 에 이미 저장된 이력을 한 번 훑어 채운 인덱스로 시작한다. (사용자 수와 관계없이 delegate 전체를 한 번만 읽는다)
+	 */
+	public static IndexedPointHistoryRepository load(PointHistoryRepository delegate) {
+		IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(delegate);
+		delegate.forEachHistory(pointHistory ->
+			repository.index.computeIfAbsent(pointHistory.userId(), key -> new UserHistories()).append(pointHistory)
+		);
+		return repository;
+	}
+
+	@Override
+	public PointHistory save(PointHistory pointHistory) {
+		UserHistories histories = index.computeIfAbsent(pointHistory.userId(), key -> new UserHistories());
+		histories.lock.lock(); // 같은 사용자의 테이블 저장 순서와 인덱스 순서를 맞춘다.
+		try {
+			PointHistory saved = delegate.save(pointHistory);
+			histories.append(saved);
+			return saved;
+		} finally {
+			histories.lock.unlock();
+		}
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		UserHistories histories = index.get(userId);
+		return histories != null ? histories.snapshot() : List.of();
+	}
+
+	@Override
+	public List<PointHistory> selectByUserId(long userId, PointHistoryCondition condition) {
+		List<PointHistory> page = new ArrayList<>(Math.min(condition.size(), PointHistoryCondition.MAXIMUM_SIZE));
+		forEachByUserId(userId, condition, page::add);
+		return page;
+	}
+
+	/**
+	 * 목록을 복사하지 않고 cursor 위치부터 조건에 맞는 이력을 차례로 전달한다.
+	 */
+	@Override
+	public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+		UserHistories histories = index.get(userId);
+		if (histories == null) {
+			return;
+		}
+		int count = histories.size;
+		PointHistory[] items = histories.items;
+		int matched = 0;
+		for (int i = histories.indexAfter(items, count, condition.cursor()); i < count && matched < condition.size(); i++) {
+			if (condition.matches(items[i])) {
+				action.accept(items[i]);
+				matched++;
+			}
+		}
+	}
+
+	/**
+	 * 한 사용자의 append-only 이력 목록.
+	 * 추가는 락 안에서 하고, 조회는 size -> items 순으로 volatile 읽기만 하므로 락 없이 일관된 앞부분을 본다.
+	 */
+	private static class UserHistories {
+		private final ReentrantLock lock = new ReentrantLock();
+		private volatile PointHistory[] items = new PointHistory[4];
+		private volatile int size;
+
+		private void append(PointHistory pointHistory) {
+			PointHistory[] current = items;
+			if (size == current.length) {
+				current = Arrays.copyOf(current, current.length * 2);
+				items = current;
+			}
+			current[size] = pointHistory;
+			size = size + 1;
+		}
+
+		private List<PointHistory> snapshot() {
+			int count = size;
+			return Arrays.stream(items, 0, count).toList();
+		}
+
+		/**
+		 * 이력 ID 는 저장 순서대로 증가하므로 이진 탐색으로 cursor 다음 위치를 찾는다.
+		 */
+		private int indexAfter(PointHistory[] items, int count, long cursor) {
+			int low = 0;
+			int high = count;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (items[mid].id() <= cursor) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
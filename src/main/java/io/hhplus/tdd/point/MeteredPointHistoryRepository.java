@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * PointHistoryRepository 호출 시간을 기록한다.
+ */
+public class MeteredPointHistoryRepository implements PointHistoryRepository {
+
+	private final PointHistoryRepository delegate;
+	private final Timer saveTimer;
+	private final Timer selectTimer;
+
+	public MeteredPointHistoryRepository(PointHistoryRepository delegate, PointMetrics pointMetrics) {
+		this.delegate = delegate;
+		this.saveTimer = pointMetrics.repositoryTimer("point_history", "save");
+		this.selectTimer = pointMetrics.repositoryTimer("point_history", "select");
+	}
+
+	@Override
+	public PointHistory save(PointHistory pointHistory) {
+		long start = System.nanoTime();
+		try {
+			return delegate.save(pointHistory);
+		} finally {
+			saveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		long start = System.nanoTime();
+		try {
+			return delegate.selectAllByUserId(userId);
+		} finally {
+			selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void forEachHistory(Consumer<PointHistory> action) {
+		long start = System.nanoTime();
+		try {
+			delegate.forEachHistory(action);
+		} finally {
+			selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public List<PointHistory> selectByUserId(long userId, PointHistoryCondition condition) {
+		long start = System.nanoTime();
+		try {
+			return delegate.selectByUserId(userId, condition);
+		} finally {
+			selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+		long start = System.nanoTime();
+		try {
+			delegate.forEachByUserId(userId, condition, action);
+		} finally {
+			selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+}
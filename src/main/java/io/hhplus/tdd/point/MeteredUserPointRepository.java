@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * UserPointRepository 호출 시간을 기록한다.
+ */
+public class MeteredUserPointRepository implements UserPointRepository {
+
+	private final UserPointRepository delegate;
+	private final Timer saveTimer;
+	private final Timer selectTimer;
+
+	public MeteredUserPointRepository(UserPointRepository delegate, PointMetrics pointMetrics) {
+		this.delegate = delegate;
+		this.saveTimer = pointMetrics.repositoryTimer("user_point", "save");
+		this.selectTimer = pointMetrics.repositoryTimer("user_point", "select");
+	}
+
+	@Override
+	public UserPoint save(UserPoint userPoint) {
+		long start = System.nanoTime();
+		try {
+			return delegate.save(userPoint);
+		} finally {
+			saveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		long start = System.nanoTime();
+		try {
+			return delegate.selectById(id);
+		} finally {
+			selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+}
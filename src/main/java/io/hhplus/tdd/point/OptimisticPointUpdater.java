@@ -0,0 +1,201 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락 없이 compare-and-set 으로 잔액을 변경하는 OPTIMISTIC 모드의 구현.
+ * - 사용자별 최신 잔액을 AtomicReference 에 버전과 함께 보관하고, 검증을 통과한 새 잔액을 CAS 로 반영한다. (경합 시 재시도)
+ * - 반영된 버전은 저장 전용 락 안에서 버전 순서대로 저장한다. 먼저 들어온 스레드가 그때까지 쌓인 버전을 한 번에 저장한다.
+ * - 저장에 실패하면 이력까지 저장된 버전까지만 확정하고, 그 뒤의 버전은 최신 잔액에서 되돌린 뒤 실패로 표시한다.
+ *   실패로 표시된 버전을 반영한 요청은 모두 예외를 받으므로, 실패한 요청이 나중에 다른 요청과 함께 저장되지 않는다.
+ * 사용자별 상태는 메모리에 계속 유지된다.
+ */
+public class OptimisticPointUpdater {
+
+	private final ConcurrentHashMap<Long, UserState> states = new ConcurrentHashMap<>();
+
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointAggregator pointAggregator;
+	private final CommittedPointView committedPointView;
+	private final long maximumPoint;
+
+	public OptimisticPointUpdater(
+		UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository,
+		PointAggregator pointAggregator,
+		CommittedPointView committedPointView,
+		long maximumPoint
+	) {
+		this.userPointRepository = userPointRepository;
+		this.pointHistoryRepository = pointHistoryRepository;
+		this.pointAggregator = pointAggregator;
+		this.committedPointView = committedPointView;
+		this.maximumPoint = maximumPoint;
+	}
+
+	public UserPoint update(long id, long amount, TransactionType type) {
+		UserState state = stateOf(id);
+		while (true) {
+			PointVersion current = state.latest.get();
+			UserPoint userPoint = type == TransactionType.CHARGE
+				? current.userPoint.charge(amount)
+				: current.userPoint.use(amount);
+
+			UserPoint.validate(amount, current.userPoint.point(), userPoint.point(), type, maximumPoint);
+
+			PointVersion next = new PointVersion(
+				userPoint,
+				current.version + 1,
+				new PointHistory(0, id, amount, type, userPoint.updateMillis()),
+				current
+			);
+			if (state.latest.compareAndSet(current, next)) {
+				persist(state, next);
+				return userPoint;
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * 저장 락 안에서 저장소의 잔액을 읽어 조회용 뷰를 채운다. (저장 중인 잔액을 읽지 않도록)
+	 */
+	public UserPoint readCommitted(long id) {
+		UserState state = stateOf(id);
+		state.persistLock.lock();
+		try {
+			return committedPointView.fill(userPointRepository.selectById(id));
+		} finally {
+			state.persistLock.unlock();
+		}
+	}
+
+	/**
+	 * 저장 락 안에서 잔액과 집계를 읽는다. (잔액만 저장되고 이력은 아직 저장 중인 상태를 읽지 않도록)
+	 */
+	public PointSummary summarize(long id) {
+		UserState state = stateOf(id);
+		state.persistLock.lock();
+		try {
+			return pointAggregator.summarize(userPointRepository.selectById(id));
+		} finally {
+			state.persistLock.unlock();
+		}
+	}
+
+	private UserState stateOf(long id) {
+		UserState state = states.get(id);
+		if (state != null) {
+			return state;
+		}
+		// 테이블 조회(지연)는 ConcurrentHashMap 의 compute 밖에서 한다.
+		UserState loaded = new UserState(userPointRepository.selectById(id));
+		UserState present = states.putIfAbsent(id, loaded);
+		return present != null ? present : loaded;
+	}
+
+	/**
+	 * 아직 저장되지 않은 버전들을 오래된 순서대로 모아 잔액은 최신 버전만, 이력은 한 건씩 저장한다.
+	 * 이력 저장이 중간에 실패하면 잔액을 이력까지 저장된 버전으로 되돌려 저장하고, 그 뒤의 버전은 rollBack 한다.
+	 * 이력을 한 건씩 저장하므로 어디까지 저장됐는지 알 수 있고, 저장된 이력은 다시 저장하지 않는다.
+	 */
+	private void persist(UserState state, PointVersion version) {
+		state.persistLock.lock();
+		try {
+			if (version.failure != null) {
+				throw version.failure; // 앞선 저장 실패로 되돌려진 버전
+			}
+			if (state.persistedVersion >= version.version) {
+				return; // 다른 스레드가 이 버전 이후까지 이미 저장함
+			}
+			PointVersion latest = state.latest.get();
+			Deque<PointVersion> unpersisted = new ArrayDeque<>();
+			PointVersion base = latest;
+			for (; base.version > state.persistedVersion; base = base.previous) {
+				unpersisted.push(base);
+			}
+			// base : 마지막으로 저장된 버전 (체인은 여기서 끊긴다)
+			PointVersion committed = base;
+			List<PointHistory> histories = new ArrayList<>(unpersisted.size());
+			RuntimeException failure = null;
+			try {
+				userPointRepository.save(latest.userPoint);
+				for (PointVersion pending : unpersisted) {
+					pointHistoryRepository.save(pending.history);
+					histories.add(pending.history);
+					committed = pending;
+				}
+			} catch (RuntimeException e) {
+				failure = e;
+				try {
+					userPointRepository.save(committed.userPoint);
+				} catch (RuntimeException restoreFailure) {
+					e.addSuppressed(restoreFailure);
+				}
+			}
+
+			long id = latest.userPoint.id();
+			if (committed != base) {
+				pointAggregator.record(id, histories);
+				state.persistedVersion = committed.version;
+			}
+			if (failure == null) {
+				latest.previous = null; // 저장이 끝난 이전 버전들은 더 이상 참조하지 않는다.
+				committedPointView.publish(latest.userPoint);
+				return;
+			}
+			rollBack(state, committed, failure);
+			committedPointView.invalidate(id); // 되돌린 잔액의 저장 결과를 알 수 없으므로 뷰에서 지운다.
+			if (version.failure != null) {
+				throw failure;
+			}
+		} finally {
+			state.persistLock.unlock();
+		}
+	}
+
+	/**
+	 * persistLock 안에서 호출된다.
+	 * 최신 버전을 committed 로 되돌리고, 그 뒤에 반영된 버전(저장하지 못한 버전과 그 위에 CAS 된 버전)을 모두 실패로 표시한다.
+	 * 실패한 버전 위에서 CAS 를 시도하던 스레드는 최신 버전이 바뀌었으므로 committed 부터 다시 검증한다.
+	 */
+	private void rollBack(UserState state, PointVersion committed, RuntimeException failure) {
+		PointVersion rolled = state.latest.getAndSet(committed);
+		for (PointVersion v = rolled; v != null && v != committed; v = v.previous) {
+			v.failure = failure;
+		}
+		committed.previous = null;
+	}
+
+	private static class UserState {
+		private final AtomicReference<PointVersion> latest;
+		private final ReentrantLock persistLock = new ReentrantLock();
+		private long persistedVersion; // persistLock 안에서만 읽고 쓴다.
+
+		private UserState(UserPoint userPoint) {
+			this.latest = new AtomicReference<>(new PointVersion(userPoint, 0, null, null));
+		}
+	}
+
+	private static class PointVersion {
+		private final UserPoint userPoint;
+		private final long version;
+		private final PointHistory history;
+		private volatile PointVersion previous;
+		private RuntimeException failure; // persistLock 안에서만 읽고 쓴다.
+
+		private PointVersion(UserPoint userPoint, long version, PointHistory history, PointVersion previous) {
+			this.userPoint = userPoint;
+			this.version = version;
+			this.history = history;
+			this.previous = previous;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 잔액 저장과 이력 저장을 동시에 실행한다. 이력은 I/O 전용 스레드에서, 잔액은 호출한 스레드에서 저장하므로
+ * 락을 잡은 시간이 두 저장 시간의 합이 아니라 더 긴 쪽의 시간이 된다.
+ * 한쪽이라도 실패하면 둘 다 반영되지 않은 상태로 되돌리고 실패를 던진다.
+ * - 잔액은 변경 전 값을 다시 저장한다. (저장 결과를 알 수 없는 경우도 포함)
+ * - 이력은 한 건씩 저장하고, 저장된 이력마다 같은 금액의 반대 종류(충전 ↔ 사용) 이력을 덧붙인다. 이력은 추가만 가능하므로 지우지 않고 상쇄한다.
+ * 되돌리기까지 실패하면 그 예외는 원래 예외에 suppressed 로 붙는다.
+ */
+public class ParallelPointWriter implements AutoCloseable {
+
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final ExecutorService ioExecutor;
+
+	public ParallelPointWriter(
+		UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository,
+		int threads
+	) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("I/O 스레드 수는 양수이어야 합니다.");
+		}
+		this.userPointRepository = userPointRepository;
+		this.pointHistoryRepository = pointHistoryRepository;
+		AtomicInteger sequence = new AtomicInteger();
+		this.ioExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "point-io-" + sequence.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 사용자 락을 잡은 상태에서 호출된다. previous 는 histories 를 반영하기 전 저장소에서 읽은 잔액이다.
+	 */
+	public void write(UserPoint previous, UserPoint next, List<PointHistory> histories) {
+		List<PointHistory> saved = new ArrayList<>(histories.size()); // I/O 스레드가 채우고 join 이후에 읽는다.
+		CompletableFuture<Void> historyWrite = CompletableFuture.runAsync(() -> {
+			for (PointHistory history : histories) {
+				saved.add(pointHistoryRepository.save(history));
+			}
+		}, ioExecutor);
+		RuntimeException balanceFailure = null;
+		try {
+			userPointRepository.save(next);
+		} catch (RuntimeException e) {
+			balanceFailure = e;
+		}
+		RuntimeException historyFailure = null;
+		try {
+			historyWrite.join();
+		} catch (CompletionException e) {
+			historyFailure = e.getCause() instanceof RuntimeException cause ? cause : e;
+		}
+		if (balanceFailure == null && historyFailure == null) {
+			return;
+		}
+
+		RuntimeException failure = balanceFailure != null ? balanceFailure : historyFailure;
+		if (balanceFailure != null && historyFailure != null) {
+			failure.addSuppressed(historyFailure);
+		}
+		try {
+			userPointRepository.save(previous);
+			if (!saved.isEmpty()) {
+				pointHistoryRepository.saveAll(reversed(saved));
+			}
+		} catch (RuntimeException e) {
+			failure.addSuppressed(e);
+		}
+		throw failure;
+	}
+
+	@Override
+	public void close() {
+		ioExecutor.shutdown();
+	}
+
+	/**
+	 * 저장된 이력을 상쇄하는 같은 금액의 반대 종류 이력
+	 */
+	static List<PointHistory> reversed(List<PointHistory> histories) {
+		long now = System.currentTimeMillis();
+		return histories.stream()
+			.map(history -> new PointHistory(
+				0,
+				history.userId(),
+				history.amount(),
+				history.type() == TransactionType.CHARGE ? TransactionType.USE : TransactionType.CHARGE,
+				now
+			))
+			.toList();
+	}
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잔액 변경과 함께 사용자별 충전/사용 합계, 거래 수, 마지막 거래 시각을 누적한다.
+ * 사용자를 처음 집계할 때 저장소의 이력 전체로 시작하고, 이후에는 저장한 이력만 더해 O(1) 로 조회한다.
+ * 합계는 저장된 이력 전체의 합계이므로, 잔액 = 충전 합계 - 사용 합계 인지로 잔액과 이력이 맞는지 확인할 수 있다.
+ * 사용자마다 잔액을 바꾸는 쪽과 같은 락 안에서(SHARDED 모드는 shard 스레드에서) 호출된다.
+ */
+public class PointAggregator {
+
+	private final ConcurrentHashMap<Long, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+	private final PointHistoryRepository pointHistoryRepository;
+
+	public PointAggregator(PointHistoryRepository pointHistoryRepository) {
+		this.pointHistoryRepository = pointHistoryRepository;
+	}
+
+	/**
+	 * 잔액과 이력을 저장한 직후에 호출된다.
+	 * 처음 집계하는 사용자는 저장소에서 읽은 이력에 방금 저장한 histories 가 이미 포함되어 있다.
+	 */
+	public void record(long userId, List<PointHistory> histories) {
+		if (!aggregates.containsKey(userId)) {
+			aggregateOf(userId);
+			return;
+		}
+		aggregates.computeIfPresent(userId, (key, aggregate) -> {
+			Aggregate next = aggregate;
+			for (PointHistory history : histories) {
+				next = next.apply(history);
+			}
+			return next;
+		});
+	}
+
+	/**
+	 * 저장 결과를 알 수 없거나 되돌린 이력이 저장된 경우 호출되며, 다음 조회 때 저장소의 이력으로 다시 집계한다.
+	 */
+	public void invalidate(long userId) {
+		aggregates.remove(userId);
+	}
+
+	public PointSummary summarize(UserPoint userPoint) {
+		Aggregate aggregate = aggregateOf(userPoint.id());
+		return PointSummary.of(
+			userPoint,
+			aggregate.totalCharged,
+			aggregate.totalUsed,
+			aggregate.transactionCount,
+			aggregate.lastTransactionMillis
+		);
+	}
+
+	private Aggregate aggregateOf(long userId) {
+		Aggregate aggregate = aggregates.get(userId);
+		if (aggregate != null) {
+			return aggregate;
+		}
+		// 저장소 조회(지연)는 ConcurrentHashMap 의 compute 밖에서 한다.
+		Aggregate loaded = Aggregate.EMPTY;
+		for (PointHistory history : pointHistoryRepository.selectAllByUserId(userId)) {
+			loaded = loaded.apply(history);
+		}
+		Aggregate present = aggregates.putIfAbsent(userId, loaded);
+		return present != null ? present : loaded;
+	}
+
+	private record Aggregate(
+		long totalCharged,
+		long totalUsed,
+		long transactionCount,
+		long lastTransactionMillis
+	) {
+
+		private static final Aggregate EMPTY = new Aggregate(0, 0, 0, 0);
+
+		private Aggregate apply(PointHistory history) {
+			boolean charge = history.type() == TransactionType.CHARGE;
+			return new Aggregate(
+				charge ? totalCharged + history.amount() : totalCharged,
+				charge ? totalUsed : totalUsed + history.amount(),
+				transactionCount + 1,
+				Math.max(lastTransactionMillis, history.updateMillis())
+			);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 잔액과 이력의 고정 길이 little-endian 바이너리 표현.
+ * - UserPoint (24바이트) : id(8) | point(8) | updateMillis(8)
+ * - 이력 목록 : 건수(4) | 이력(33바이트) * 건수
+ *   이력 : id(8) | userId(8) | amount(8) | type(1, TransactionType 의 순서) | updateMillis(8)
+ * 이력 목록은 CHUNK_SIZE 크기 버퍼 하나를 채울 때마다 출력 스트림에 바로 쓴다. (목록 크기와 관계없이 버퍼 하나만 할당)
+ */
+public final class PointBinaryCodec {
+
+	public static final int USER_POINT_SIZE = Long.BYTES * 3;
+	public static final int HISTORY_SIZE = Long.BYTES * 4 + 1;
+	private static final int CHUNK_SIZE = 8192;
+	private static final TransactionType[] TYPES = TransactionType.values();
+
+	private PointBinaryCodec() {
+	}
+
+	public static long sizeOf(List<PointHistory> histories) {
+		return Integer.BYTES + (long)histories.size() * HISTORY_SIZE;
+	}
+
+	public static void write(UserPoint userPoint, OutputStream outputStream) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(USER_POINT_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putLong(userPoint.id()).putLong(userPoint.point()).putLong(userPoint.updateMillis());
+		outputStream.write(buffer.array(), 0, buffer.position());
+	}
+
+	public static void write(List<PointHistory> histories, OutputStream outputStream) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int)Math.min(CHUNK_SIZE, sizeOf(histories))).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(histories.size());
+		for (PointHistory pointHistory : histories) {
+			if (buffer.remaining() < HISTORY_SIZE) {
+				outputStream.write(buffer.array(), 0, buffer.position());
+				buffer.clear();
+			}
+			buffer.putLong(pointHistory.id())
+				.putLong(pointHistory.userId())
+				.putLong(pointHistory.amount())
+				.put((byte)pointHistory.type().ordinal())
+				.putLong(pointHistory.updateMillis());
+		}
+		outputStream.write(buffer.array(), 0, buffer.position());
+	}
+
+	/**
+	 * buffer 의 byte order 를 little-endian 으로 바꾸고 현재 위치부터 읽는다.
+	 */
+	public static UserPoint readUserPoint(ByteBuffer buffer) {
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		return new UserPoint(buffer.getLong(), buffer.getLong(), buffer.getLong());
+	}
+
+	/**
+	 * buffer 의 byte order 를 little-endian 으로 바꾸고 현재 위치부터 읽는다.
+	 * 건수만큼의 이력이 남아있지 않으면 IllegalArgumentException 이 발생한다.
+	 */
+	public static List<PointHistory> readHistories(ByteBuffer buffer) {
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		int count = buffer.getInt();
+		if (count < 0 || (long)count * HISTORY_SIZE > buffer.remaining()) {
+			throw new IllegalArgumentException("이력 " + count + "건을 읽기에 데이터가 부족합니다.");
+		}
+		List<PointHistory> histories = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			histories.add(new PointHistory(
+				buffer.getLong(), buffer.getLong(), buffer.getLong(), TYPES[buffer.get()], buffer.getLong()
+			));
+		}
+		return histories;
+	}
+}
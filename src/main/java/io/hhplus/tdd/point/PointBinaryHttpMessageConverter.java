@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Accept 에 application/x-point-binary 가 있으면 UserPoint 와 이력 목록(List&lt;PointHistory&gt;)을 PointBinaryCodec 형식으로 응답한다.
+ * - 변환기 목록의 마지막에 등록하므로 Accept 가 없거나 모든 형식(*&#47;*)을 받으면 지금처럼 JSON 으로 응답한다.
+ * - 응답 크기를 미리 계산해 Content-Length 로 보내고, 본문은 응답 스트림에 바로 쓴다.
+ * - 오류 응답은 JSON 으로만 쓰므로, 오류 내용을 받으려면 Accept 에 application/json 을 함께 보낸다.
+ * 같은 형식의 본문은 UserPoint 와 이력 목록으로 읽는다. (바이너리 응답을 받는 쪽에서 쓰며, 컨트롤러의 요청 본문 타입과는 겹치지 않는다)
+ */
+public class PointBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+	public static final String MEDIA_TYPE_VALUE = "application/x-point-binary";
+	public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+	public PointBinaryHttpMessageConverter() {
+		super(MEDIA_TYPE);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return clazz == UserPoint.class; // 제네릭 정보가 없으면 이력 목록인지 알 수 없다.
+	}
+
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return (type == UserPoint.class || isHistoryList(type)) && canRead(mediaType);
+	}
+
+	@Override
+	public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+		return (clazz == UserPoint.class || isHistoryList(type)) && canWrite(mediaType);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+		if (object instanceof UserPoint userPoint) {
+			PointBinaryCodec.write(userPoint, outputMessage.getBody());
+		} else {
+			PointBinaryCodec.write(histories(object), outputMessage.getBody());
+		}
+	}
+
+	@Override
+	protected Long getContentLength(Object object, MediaType contentType) {
+		if (object instanceof UserPoint) {
+			return (long)PointBinaryCodec.USER_POINT_SIZE;
+		}
+		return PointBinaryCodec.sizeOf(histories(object));
+	}
+
+	@Override
+	public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(inputMessage.getBody().readAllBytes());
+		try {
+			return type == UserPoint.class ? PointBinaryCodec.readUserPoint(buffer) : PointBinaryCodec.readHistories(buffer);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw new HttpMessageNotReadableException("바이너리 본문을 읽을 수 없습니다.", e, inputMessage);
+		}
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+		return read(clazz, null, inputMessage);
+	}
+
+	private static boolean isHistoryList(Type type) {
+		return type instanceof ParameterizedType parameterizedType
+			&& parameterizedType.getRawType() == List.class
+			&& parameterizedType.getActualTypeArguments()[0] == PointHistory.class;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<PointHistory> histories(Object object) {
+		return (List<PointHistory>)object; // canWrite 에서 List<PointHistory> 만 허용한다.
+	}
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청의 한 건 (사용자, 충전/사용, 금액)
+ */
+public record PointCommand(
+	long userId,
+	TransactionType type,
+	long amount
+) {
+
+}
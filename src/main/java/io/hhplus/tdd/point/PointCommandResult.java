@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 일괄 처리 요청 한 건의 결과.
+ * 성공하면 point 에 반영 후 잔액이, 실패하면 reason(정책 검증 실패 사유, 그 외 오류는 null)과 message 가 담긴다.
+ * status 는 같은 요청을 단건 API 로 보냈을 때의 응답 코드다. (성공 200, 잘못된 요청 400, 락 거절 429/503, 종료 중 503, 그 외 500)
+ */
+public record PointCommandResult(
+	long userId,
+	TransactionType type,
+	long amount,
+	boolean success,
+	int status,
+	Long point,
+	PointValidationException.Reason reason,
+	String message
+) {
+
+	public static PointCommandResult success(PointCommand command, UserPoint userPoint) {
+		return new PointCommandResult(
+			command.userId(), command.type(), command.amount(), true, 200, userPoint.point(), null, null
+		);
+	}
+
+	public static PointCommandResult failure(PointCommand command, RuntimeException e) {
+		PointValidationException.Reason reason = e instanceof PointValidationException validation
+			? validation.getReason()
+			: null;
+		return new PointCommandResult(
+			command.userId(), command.type(), command.amount(), false, statusOf(e), null, reason, e.getMessage()
+		);
+	}
+
+	private static int statusOf(RuntimeException e) {
+		if (e instanceof UserLockRejectedException rejected) {
+			return rejected.getReason() == UserLockRejectedException.Reason.QUEUE_FULL ? 429 : 503;
+		}
+		if (e instanceof RejectedExecutionException) {
+			return 503;
+		}
+		if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+			return 400;
+		}
+		return 500;
+	}
+}
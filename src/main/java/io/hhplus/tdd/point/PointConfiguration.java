@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PointConfiguration {
+
+	@Bean
+	public PointMetrics pointMetrics(MeterRegistry meterRegistry) {
+		return new PointMetrics(meterRegistry);
+	}
+
+	@Bean
+	public UserLockProvider userLockProvider(PointProperties pointProperties, PointMetrics pointMetrics) {
+		UserLockProvider userLockProvider = UserLockProvider.create(pointProperties.getLock(), pointMetrics);
+		pointMetrics.bindLockEntries(userLockProvider);
+		return userLockProvider;
+	}
+
+	@Bean
+	public HotUserDetector hotUserDetector(PointProperties pointProperties, PointMetrics pointMetrics) {
+		HotUserDetector hotUserDetector = HotUserDetector.create(pointProperties.getHotKey(), pointMetrics);
+		pointMetrics.bindHotUsers(hotUserDetector);
+		return hotUserDetector;
+	}
+
+	@Bean
+	@Primary
+	public UserPointRepository userPointRepository(
+		UserPointRepositoryImpl userPointRepositoryImpl,
+		ObjectProvider<WalUserPointRepository> walUserPointRepository,
+		PointProperties pointProperties,
+		PointMetrics pointMetrics
+	) {
+		PointProperties.Storage storageProperties = pointProperties.getStorage();
+		UserPointRepository storage = switch (storageProperties.getType()) {
+			case WAL -> walUserPointRepository.getObject();
+			case PRIMITIVE -> new PrimitiveUserPointRepository(
+				storageProperties.getPrimitive().getInitialCapacity(),
+				storageProperties.getPrimitive().getSegments()
+			);
+			case MEMORY -> userPointRepositoryImpl;
+		};
+		UserPointRepository userPointRepository = new MeteredUserPointRepository(storage, pointMetrics);
+		PointProperties.Cache cache = pointProperties.getCache();
+		if (!cache.isEnabled()) {
+			return userPointRepository;
+		}
+		return new CachingUserPointRepository(userPointRepository, cache.getMaxSize());
+	}
+
+	/**
+	 * 설정에 따라 테이블(또는 WAL, 열 단위 배열) 저장소 위에 인덱스, 비동기 저장을 차례로 감싼다.
+	 * 지표는 저장소 호출 시간만 재도록 가장 안쪽에 둔다.
+	 */
+	@Bean
+	@Primary
+	public PointHistoryRepository pointHistoryRepository(
+		PointHistoryRepositoryImpl pointHistoryRepositoryImpl,
+		ObjectProvider<WalPointHistoryRepository> walPointHistoryRepository,
+		PointProperties pointProperties,
+		PointMetrics pointMetrics
+	) {
+		PointProperties.History history = pointProperties.getHistory();
+		PointHistoryRepository storage = switch (pointProperties.getStorage().getType()) {
+			case WAL -> walPointHistoryRepository.getObject();
+			case PRIMITIVE -> new ColumnarPointHistoryRepository();
+			case MEMORY -> pointHistoryRepositoryImpl;
+		};
+		PointHistoryRepository pointHistoryRepository = new MeteredPointHistoryRepository(storage, pointMetrics);
+		if (history.getIndex().isEnabled()) {
+			pointHistoryRepository = storage instanceof WalPointHistoryRepository
+				? IndexedPointHistoryRepository.load(pointHistoryRepository) // 재시작 후 WAL 에서 복구한 이력
+				: new IndexedPointHistoryRepository(pointHistoryRepository); // 테이블과 열 단위 배열은 비어 있는 상태로 시작한다.
+		}
+		if (history.getWriteBehind().isEnabled()) {
+			PointProperties.History.WriteBehind writeBehind = history.getWriteBehind();
+			pointHistoryRepository = new WriteBehindPointHistoryRepository(
+				pointHistoryRepository,
+				writeBehind.getCapacity(),
+				writeBehind.getBatchSize(),
+				writeBehind.getFlushInterval(),
+				storage instanceof WalPointHistoryRepository wal ? wal.lastHistoryId() : 0L // 테이블과 열 단위 배열은 비어 있는 상태로 시작한다.
+			);
+		}
+		return pointHistoryRepository;
+	}
+}
@@ -1,15 +1,26 @@
 package io.hhplus.tdd.point;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,8 +30,10 @@ import lombok.RequiredArgsConstructor;
 public class PointController {
 
 	private static final Logger log = LoggerFactory.getLogger(PointController.class);
+	private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
 	private final PointService pointService;
+	private final ObjectMapper objectMapper;
 
 	@GetMapping("{id}")
 	public UserPoint point(
@@ -29,26 +42,107 @@ public class PointController {
 		return pointService.findPointById(id);
 	}
 
+	/**
+	 * 조회 조건이 하나도 없으면 전체 이력을, 있으면 cursor 이후의 이력을 size 건까지 반환한다.
+	 * 다음 페이지는 마지막 이력의 id 를 cursor 로 넘겨 조회한다.
+	 */
 	@GetMapping("{id}/histories")
 	public List<PointHistory> history(
+		@PathVariable(name = "id") long id,
+		@RequestParam(name = "cursor", required = false) Long cursor,
+		@RequestParam(name = "size", required = false) Integer size,
+		@RequestParam(name = "from", required = false) Long from,
+		@RequestParam(name = "to", required = false) Long to
+	) {
+		if (cursor == null && size == null && from == null && to == null) {
+			return pointService.findPointHistoryAllById(id);
+		}
+		return pointService.findPointHistories(id, PointHistoryCondition.of(cursor, size, from, to));
+	}
+
+	/**
+	 * 이력을 목록으로 모으지 않고 한 줄에 하나씩(NDJSON) 응답에 바로 쓴다.
+	 */
+	@GetMapping("{id}/histories/stream")
+	public ResponseEntity<StreamingResponseBody> historyStream(
+		@PathVariable(name = "id") long id,
+		@RequestParam(name = "cursor", required = false) Long cursor,
+		@RequestParam(name = "from", required = false) Long from,
+		@RequestParam(name = "to", required = false) Long to
+	) {
+		PointHistoryCondition condition = PointHistoryCondition.unlimited(cursor, from, to);
+		StreamingResponseBody body = outputStream -> {
+			try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+				pointService.streamPointHistories(id, condition, pointHistory -> {
+					try {
+						writer.write(pointHistory);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		};
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(body);
+	}
+
+	/**
+	 * 충전/사용 합계, 거래 수, 마지막 거래 시각과 잔액 일치 여부를 반환한다. (이력을 읽지 않는다.)
+	 */
+	@GetMapping("{id}/summary")
+	public PointSummary summary(
 		@PathVariable(name = "id") long id
 	) {
-		return pointService.findPointHistoryAllById(id);
+		return pointService.findPointSummary(id);
 	}
 
+	/**
+	 * Idempotency-Key 헤더가 있으면 같은 키로 재시도해도 한 번만 반영되고 처음 결과를 다시 받는다.
+	 */
 	@PatchMapping("{id}/charge")
 	public UserPoint charge(
 		@PathVariable(name = "id") long id,
-		@RequestBody long amount
+		@RequestBody long amount,
+		@RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey
 	) {
-		return pointService.charge(id, amount);
+		if (idempotencyKey == null) {
+			return pointService.charge(id, amount);
+		}
+		return pointService.charge(id, amount, idempotencyKey);
 	}
 
 	@PatchMapping("{id}/use")
 	public UserPoint use(
 		@PathVariable(name = "id") long id,
-		@RequestBody long amount
+		@RequestBody long amount,
+		@RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+	) {
+		if (idempotencyKey == null) {
+			return pointService.use(id, amount);
+		}
+		return pointService.use(id, amount, idempotencyKey);
+	}
+
+	/**
+	 * id 사용자의 포인트를 toUserId 사용자에게 옮긴다. 두 잔액은 함께 바뀌거나 함께 바뀌지 않는다.
+	 */
+	@PatchMapping("{id}/transfer")
+	public PointTransferResult transfer(
+		@PathVariable(name = "id") long id,
+		@RequestBody PointTransferRequest request
+	) {
+		return pointService.transfer(id, request.toUserId(), request.amount());
+	}
+
+	/**
+	 * 여러 사용자의 충전/사용 요청을 한 번에 처리한다.
+	 * 일부 요청이 거절되어도 나머지는 처리되며, 요청과 같은 순서로 건별 결과를 반환한다.
+	 */
+	@PostMapping("batch")
+	public List<PointCommandResult> batch(
+		@RequestBody List<PointCommand> commands
 	) {
-		return pointService.use(id, amount);
+		return pointService.executeBatch(commands);
 	}
 }
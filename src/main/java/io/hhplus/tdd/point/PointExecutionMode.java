@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 실행 방식
+ * - LOCK : 사용자별 락을 잡고 요청마다 조회/검증/저장
+ * - COMBINING : 락을 잡은 스레드가 같은 사용자의 대기 요청을 모아 한 번의 조회/저장으로 처리
+ * - OPTIMISTIC : 메모리의 최신 잔액을 compare-and-set 으로 변경하고, 저장은 버전 순서대로 뒤따라 처리
+ * - SHARDED : 사용자 ID 해시로 나눈 shard 의 전용 스레드가 메시지 큐의 요청을 순서대로 처리 (락 없음)
+ */
+public enum PointExecutionMode {
+	LOCK, COMBINING, OPTIMISTIC, SHARDED
+}
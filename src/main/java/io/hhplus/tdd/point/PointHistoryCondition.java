@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이력 조회 조건
+ * - cursor : 마지막으로 받은 이력 ID (해당 ID 이후부터 조회, 0 이면 처음부터)
+ * - size : 최대 조회 건수
+ * - fromMillis / toMillis : updateMillis 범위 [from, to)
+ */
+public record PointHistoryCondition(
+	long cursor,
+	int size,
+	long fromMillis,
+	long toMillis
+) {
+	public static final int DEFAULT_SIZE = 100;
+	public static final int MAXIMUM_SIZE = 1000;
+
+	public static PointHistoryCondition of(Long cursor, Integer size, Long fromMillis, Long toMillis) {
+		int pageSize = size == null ? DEFAULT_SIZE : size;
+		if (pageSize <= 0 || pageSize > MAXIMUM_SIZE) {
+			throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAXIMUM_SIZE + " 이하이어야 합니다.");
+		}
+		return create(cursor, pageSize, fromMillis, toMillis);
+	}
+
+	/**
+	 * 건수 제한 없이 조건에 맞는 이력을 모두 조회한다. (스트리밍 응답용)
+	 */
+	public static PointHistoryCondition unlimited(Long cursor, Long fromMillis, Long toMillis) {
+		return create(cursor, Integer.MAX_VALUE, fromMillis, toMillis);
+	}
+
+	private static PointHistoryCondition create(Long cursor, int size, Long fromMillis, Long toMillis) {
+		long from = fromMillis == null ? Long.MIN_VALUE : fromMillis;
+		long to = toMillis == null ? Long.MAX_VALUE : toMillis;
+		if (from > to) {
+			throw new IllegalArgumentException("조회 시작 시각이 종료 시각보다 늦습니다.");
+		}
+		return new PointHistoryCondition(cursor == null ? 0 : cursor, size, from, to);
+	}
+
+	public boolean matches(PointHistory pointHistory) {
+		return (cursor == 0 || pointHistory.id() > cursor)
+			&& pointHistory.updateMillis() >= fromMillis
+			&& pointHistory.updateMillis() < toMillis;
+	}
+}
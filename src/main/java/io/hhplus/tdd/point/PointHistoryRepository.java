@@ -1,10 +1,37 @@
 package io.hhplus.tdd.point;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PointHistoryRepository {
 
 	PointHistory save(PointHistory pointHistory);
 
+	default List<PointHistory> saveAll(List<PointHistory> pointHistories) {
+		return pointHistories.stream().map(this::save).toList();
+	}
+
 	List<PointHistory> selectAllByUserId(long userId);
+
+	/**
+	 * 저장된 이력 전체를 한 번 훑어 전달한다. (같은 사용자의 이력은 저장 순서대로)
+	 * 시작할 때 인덱스를 한 번에 채우는 데 쓰며, 이력 전체를 훑을 수 없는 저장소는 지원하지 않는다.
+	 */
+	default void forEachHistory(Consumer<PointHistory> action) {
+		throw new UnsupportedOperationException("이력 전체를 조회할 수 없는 저장소입니다.");
+	}
+
+	default List<PointHistory> selectByUserId(long userId, PointHistoryCondition condition) {
+		return selectAllByUserId(userId).stream()
+			.filter(condition::matches)
+			.limit(condition.size())
+			.toList();
+	}
+
+	default void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+		selectAllByUserId(userId).stream()
+			.filter(condition::matches)
+			.limit(condition.size())
+			.forEach(action);
+	}
 }
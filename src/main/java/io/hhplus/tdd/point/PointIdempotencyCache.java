@@ -0,0 +1,193 @@
+package io.hhplus.tdd.point;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키(Idempotency-Key)별 충전/사용 결과를 기억해, 같은 키로 다시 들어온 요청은 처음 결과를 그대로 반환한다.
+ * - 키는 사용자별로 구분한다. 같은 키로 금액이나 종류가 다른 요청이 오면 IllegalArgumentException 이 발생한다.
+ * - 처음 요청이 처리 중이면 재요청은 그 결과를 기다린다. (두 번 반영되지 않음)
+ * - 성공과 실패를 모두 기억한다. 저장 중 실패는 잔액만 반영되었을 수 있으므로, 재요청은 다시 실행하지 않고 처음 예외를 받는다.
+ * - 아무것도 반영되지 않은 것이 확실한 거절(UserLockRejectedException, 종료된 실행기의 RejectedExecutionException)만 지워 다시 시도할 수 있게 한다.
+ * - 항목은 ttl 이 지나면 만료되고, 최대 개수를 넘으면 segment 별로 가장 오래된 항목부터 제거한다.
+ *   키 길이도 제한하므로 메모리 사용량은 최대 개수에 비례한다.
+ */
+public class PointIdempotencyCache {
+
+	public static final int MAXIMUM_KEY_LENGTH = 64;
+	private static final int SEGMENTS = 16;
+
+	private final Segment[] segments = new Segment[SEGMENTS];
+	private final long ttlNanos;
+	private final PointMetrics pointMetrics;
+
+	public PointIdempotencyCache(int maxSize, Duration ttl, PointMetrics pointMetrics) {
+		if (maxSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("멱등 키 최대 개수와 보관 시간은 양수이어야 합니다.");
+		}
+		this.ttlNanos = ttl.toNanos();
+		this.pointMetrics = pointMetrics;
+		int segmentCapacity = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments[i] = new Segment(segmentCapacity);
+		}
+	}
+
+	/**
+	 * 처음 보는 키이면 action 을 실행하고 결과를 기억한다. 이미 기억한 키이면 action 없이 그 결과를 반환한다.
+	 */
+	public UserPoint execute(long userId, String idempotencyKey, long amount, TransactionType type, Supplier<UserPoint> action) {
+		if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAXIMUM_KEY_LENGTH) {
+			throw new IllegalArgumentException("멱등 키는 1자 이상 " + MAXIMUM_KEY_LENGTH + "자 이하이어야 합니다.");
+		}
+		Key key = new Key(userId, idempotencyKey);
+		Segment segment = segmentOf(key);
+		Entry entry = new Entry(amount, type);
+		Entry present = segment.putIfAbsent(key, entry);
+		if (present != null) {
+			if (present.amount != amount || present.type != type) {
+				throw new IllegalArgumentException("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+			}
+			pointMetrics.recordIdempotencyReplay();
+			return present.join();
+		}
+
+		try {
+			UserPoint userPoint = action.get();
+			entry.result.complete(userPoint);
+			return userPoint;
+		} catch (UserLockRejectedException | RejectedExecutionException e) {
+			segment.remove(key, entry);
+			entry.result.completeExceptionally(e);
+			throw e;
+		} catch (RuntimeException e) {
+			entry.result.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	private Segment segmentOf(Key key) {
+		return segments[key.hashCode() & (SEGMENTS - 1)];
+	}
+
+	/**
+	 * - SIZE : 최대 개수를 넘어 가장 오래된 항목을 제거
+	 * - EXPIRED : 보관 시간이 지나 제거
+	 */
+	public enum Eviction {
+		SIZE, EXPIRED
+	}
+
+	private record Key(long userId, String idempotencyKey) {
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(userId * 0x9E3779B97F4A7C15L) * 31 + idempotencyKey.hashCode();
+		}
+	}
+
+	private static final class Entry {
+		private final long amount;
+		private final TransactionType type;
+		private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+		private long expiresAt; // segment 락 안에서 넣을 때 정한다.
+
+		private Entry(long amount, TransactionType type) {
+			this.amount = amount;
+			this.type = type;
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+
+		private UserPoint join() {
+			try {
+				return result.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * 보관 시간이 모두 같으므로 삽입 순서가 곧 만료 순서이다. 넣을 때 앞에서부터 만료된 항목을 지운다.
+	 */
+	private class Segment {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<Key, Entry> entries;
+
+		private Segment(int capacity) {
+			this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+					if (size() > capacity) {
+						pointMetrics.recordIdempotencyEviction(Eviction.SIZE);
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		private Entry putIfAbsent(Key key, Entry entry) {
+			lock.lock();
+			try {
+				long now = System.nanoTime();
+				expire(now);
+				entry.expiresAt = now + ttlNanos;
+				return entries.putIfAbsent(key, entry);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void remove(Key key, Entry entry) {
+			lock.lock();
+			try {
+				entries.remove(key, entry);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private int size() {
+			lock.lock();
+			try {
+				expire(System.nanoTime());
+				return entries.size();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void expire(long now) {
+			Iterator<Entry> iterator = entries.values().iterator();
+			while (iterator.hasNext()) {
+				if (!iterator.next().isExpired(now)) {
+					return;
+				}
+				iterator.remove();
+				pointMetrics.recordIdempotencyEviction(Eviction.EXPIRED);
+			}
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * 포인트 처리 지표.
+ * 측정 대상 Timer/Counter 는 생성 시점에 모두 등록해 두고, 요청 처리 중에는 태그 생성 없이 기록만 한다.
+ * - point.lock.wait / point.lock.hold : 사용자 락 획득 대기 시간 / 보유 시간
+ * - point.repository.latency : 저장소 호출 시간 (repository, operation 태그)
+ * - point.validation.rejected : 정책 검증 거절 수 (reason 태그)
+ * - point.lock.rejected : 락 획득 정책에 따라 거절된 요청 수 (reason 태그)
+ * - point.lock.entries : 메모리에 유지 중인 사용자 락 개수
+ * - point.shard.queue.depth : SHARDED 모드의 shard 별 대기 메시지 수 (shard 태그)
+ * - point.async.inflight : 비동기 API 로 받아 아직 끝나지 않은 요청 수
+ * - point.idempotency.replayed : 멱등 키로 처음 결과를 반환한 재요청 수
+ * - point.idempotency.evicted : 멱등 키 항목 제거 수 (cause 태그 : size, expired)
+ * - point.idempotency.entries : 기억 중인 멱등 키 수
+ * - point.view.reads : 조회용 뷰로 처리한 잔액 조회 수 (result 태그 : hit, miss)
+ * - point.view.entries : 조회용 뷰에 있는 사용자 수
+ * - point.hotkey.transitions : hot user 로 판단되거나(hot) 해제된(cold) 횟수 (direction 태그)
+ * - point.hotkey.users : 현재 hot user 수
+ */
+public class PointMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final Timer lockWait;
+	private final Timer lockHold;
+	private final EnumMap<PointValidationException.Reason, Counter> rejections =
+		new EnumMap<>(PointValidationException.Reason.class);
+	private final EnumMap<UserLockRejectedException.Reason, Counter> lockRejections =
+		new EnumMap<>(UserLockRejectedException.Reason.class);
+	private final Counter idempotencyReplays;
+	private final EnumMap<PointIdempotencyCache.Eviction, Counter> idempotencyEvictions =
+		new EnumMap<>(PointIdempotencyCache.Eviction.class);
+	private final Counter readViewHits;
+	private final Counter readViewMisses;
+	private final Counter hotUserEntries;
+	private final Counter hotUserExits;
+
+	public PointMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.lockWait = Timer.builder("point.lock.wait")
+			.description("사용자 락 획득 대기 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.lockHold = Timer.builder("point.lock.hold")
+			.description("사용자 락 보유 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		for (PointValidationException.Reason reason : PointValidationException.Reason.values()) {
+			rejections.put(reason, Counter.builder("point.validation.rejected")
+				.description("정책 검증에 실패한 충전/사용 요청 수")
+				.tag("reason", reason.name().toLowerCase())
+				.register(meterRegistry));
+		}
+		for (UserLockRejectedException.Reason reason : UserLockRejectedException.Reason.values()) {
+			lockRejections.put(reason, Counter.builder("point.lock.rejected")
+				.description("락을 기다리지 않고 거절한 요청 수")
+				.tag("reason", reason.name().toLowerCase())
+				.register(meterRegistry));
+		}
+		this.idempotencyReplays = Counter.builder("point.idempotency.replayed")
+			.description("멱등 키로 처음 결과를 반환한 재요청 수")
+			.register(meterRegistry);
+		for (PointIdempotencyCache.Eviction cause : PointIdempotencyCache.Eviction.values()) {
+			idempotencyEvictions.put(cause, Counter.builder("point.idempotency.evicted")
+				.description("멱등 키 항목 제거 수")
+				.tag("cause", cause.name().toLowerCase())
+				.register(meterRegistry));
+		}
+		this.readViewHits = Counter.builder("point.view.reads")
+			.description("조회용 뷰로 처리한 잔액 조회 수")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.readViewMisses = Counter.builder("point.view.reads")
+			.description("조회용 뷰로 처리한 잔액 조회 수")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		this.hotUserEntries = Counter.builder("point.hotkey.transitions")
+			.description("hot user 판단이 바뀐 횟수")
+			.tag("direction", "hot")
+			.register(meterRegistry);
+		this.hotUserExits = Counter.builder("point.hotkey.transitions")
+			.description("hot user 판단이 바뀐 횟수")
+			.tag("direction", "cold")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 레지스트리가 연결되지 않은 CompositeMeterRegistry 를 사용하므로 아무것도 기록하지 않는다.
+	 */
+	public static PointMetrics noop() {
+		return new PointMetrics(new CompositeMeterRegistry());
+	}
+
+	public void recordLockWait(long nanos) {
+		lockWait.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordLockHold(long nanos) {
+		lockHold.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordRejection(PointValidationException.Reason reason) {
+		rejections.get(reason).increment();
+	}
+
+	public void recordLockRejection(UserLockRejectedException.Reason reason) {
+		lockRejections.get(reason).increment();
+	}
+
+	public void recordIdempotencyReplay() {
+		idempotencyReplays.increment();
+	}
+
+	public void recordIdempotencyEviction(PointIdempotencyCache.Eviction cause) {
+		idempotencyEvictions.get(cause).increment();
+	}
+
+	public void recordReadView(boolean hit) {
+		(hit ? readViewHits : readViewMisses).increment();
+	}
+
+	public void recordHotUserTransition(boolean hot) {
+		(hot ? hotUserEntries : hotUserExits).increment();
+	}
+
+	public Timer repositoryTimer(String repository, String operation) {
+		return Timer.builder("point.repository.latency")
+			.description("저장소 호출 시간")
+			.tag("repository", repository)
+			.tag("operation", operation)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	public void bindLockEntries(UserLockProvider userLockProvider) {
+		Gauge.builder("point.lock.entries", userLockProvider, UserLockProvider::size)
+			.description("메모리에 유지 중인 사용자 락 개수")
+			.register(meterRegistry);
+	}
+
+	public void bindShardQueues(ShardedPointExecutor shardedPointExecutor) {
+		for (int i = 0; i < shardedPointExecutor.shardCount(); i++) {
+			int shard = i;
+			Gauge.builder("point.shard.queue.depth", shardedPointExecutor, executor -> executor.queueDepth(shard))
+				.description("shard 메시지 큐에 대기 중인 요청 수")
+				.tag("shard", String.valueOf(shard))
+				.register(meterRegistry);
+		}
+	}
+
+	public void bindAsyncInFlight(AsyncPointServiceImpl asyncPointService) {
+		Gauge.builder("point.async.inflight", asyncPointService, AsyncPointServiceImpl::inFlight)
+			.description("비동기 API 로 받아 아직 끝나지 않은 요청 수")
+			.register(meterRegistry);
+	}
+
+	public void bindIdempotencyEntries(PointIdempotencyCache pointIdempotencyCache) {
+		Gauge.builder("point.idempotency.entries", pointIdempotencyCache, PointIdempotencyCache::size)
+			.description("기억 중인 멱등 키 수")
+			.register(meterRegistry);
+	}
+
+	public void bindReadViewEntries(CommittedPointView committedPointView) {
+		Gauge.builder("point.view.entries", committedPointView, CommittedPointView::size)
+			.description("조회용 뷰에 있는 사용자 수")
+			.register(meterRegistry);
+	}
+
+	public void bindHotUsers(HotUserDetector hotUserDetector) {
+		Gauge.builder("point.hotkey.users", hotUserDetector, HotUserDetector::hotUserCount)
+			.description("현재 hot user 수")
+			.register(meterRegistry);
+	}
+}
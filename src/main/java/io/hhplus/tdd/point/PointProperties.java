@@ -0,0 +1,151 @@
+package io.hhplus.tdd.point;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point")
+public class PointProperties {
+
+	private PointExecutionMode mode = PointExecutionMode.LOCK; // 충전/사용 실행 방식
+	private final Lock lock = new Lock();
+	private final Cache cache = new Cache();
+	private final History history = new History();
+	private final Batch batch = new Batch();
+	private final Shard shard = new Shard();
+	private final Async async = new Async();
+	private final Idempotency idempotency = new Idempotency();
+	private final ParallelWrite parallelWrite = new ParallelWrite();
+	private final ReadView readView = new ReadView();
+	private final HotKey hotKey = new HotKey();
+	private final Storage storage = new Storage();
+
+	@Getter
+	@Setter
+	public static class Lock {
+		private UserLockStrategy strategy = UserLockStrategy.REFERENCE_COUNTED; // 사용자별 락 관리 방식
+		private int stripes = 1024; // STRIPED 방식일 때 락 개수 (2의 거듭제곱으로 올림)
+		private boolean fair = false; // 기다린 순서대로 락을 줄지 여부
+		private Duration timeout = Duration.ZERO; // 락 최대 대기 시간 (0 이면 무제한, 넘으면 503)
+		private int maxQueueLength = 0; // 사용자별 락 최대 대기 요청 수 (0 이면 무제한, 넘으면 429)
+	}
+
+	@Getter
+	@Setter
+	public static class Cache {
+		private boolean enabled = false; // 잔액 write-through 캐시 사용 여부
+		private int maxSize = 100_000; // 캐시에 유지할 최대 사용자 수
+	}
+
+	@Getter
+	@Setter
+	public static class Batch {
+		private int maxSize = 10_000; // 한 번에 받을 수 있는 최대 요청 수
+		private int parallelism = Runtime.getRuntime().availableProcessors(); // 서로 다른 사용자를 동시에 처리할 스레드 수
+	}
+
+	@Getter
+	@Setter
+	public static class Shard {
+		private int count = Runtime.getRuntime().availableProcessors(); // SHARDED 모드의 shard(전용 스레드) 수 (저장소가 I/O 로 대기하면 코어 수보다 크게)
+		private int queueCapacity = 10_000; // shard 별 메시지 큐 크기 (가득 차면 요청이 대기)
+	}
+
+	@Getter
+	@Setter
+	public static class Async {
+		private int parallelism = 64; // /async/point 요청의 저장소 호출을 실행할 스레드 수 (동시에 처리할 수 있는 사용자 수)
+	}
+
+	@Getter
+	@Setter
+	public static class Idempotency {
+		private int maxSize = 100_000; // 기억할 최대 멱등 키 수 (넘으면 오래된 키부터 제거)
+		private Duration ttl = Duration.ofMinutes(10); // 멱등 키 보관 시간 (클라이언트 재시도 기간보다 길게)
+	}
+
+	@Getter
+	@Setter
+	public static class ParallelWrite {
+		private boolean enabled = false; // LOCK/COMBINING 모드에서 잔액과 이력을 동시에 저장할지 여부
+		private int threads = 64; // 이력 저장을 실행할 I/O 스레드 수 (동시에 저장 중인 사용자 수만큼 필요)
+	}
+
+	@Getter
+	@Setter
+	public static class ReadView {
+		private boolean enabled = false; // 커밋된 잔액을 메모리에 두고 잔액 조회를 락 없이 처리할지 여부
+	}
+
+	@Getter
+	@Setter
+	public static class HotKey {
+		private boolean enabled = false; // 요청이 몰리는 사용자(hot user) 탐지 여부
+		private boolean adaptive = true; // LOCK 모드에서 hot user 의 요청을 모아서 처리(combining)할지 여부
+		private int sampleRate = 8; // 요청 몇 건 중 한 건을 표본으로 셀지
+		private int topK = 16; // 추적할 후보 사용자 수
+		private int window = 10_000; // 이 수의 두 배만큼 표본이 쌓이면 횟수를 절반으로 줄인다.
+		private double hotShare = 0.02; // 표본 중 이 비율 이상을 차지하면 hot (절반 아래로 내려가면 다시 cold)
+	}
+
+	@Getter
+	@Setter
+	public static class Storage {
+		private PointStorageType type = PointStorageType.MEMORY; // 잔액/이력 저장 방식
+		private final Wal wal = new Wal();
+		private final Snapshot snapshot = new Snapshot();
+		private final Primitive primitive = new Primitive();
+
+		@Getter
+		@Setter
+		public static class Wal {
+			private String directory = "data/wal"; // 세그먼트 파일을 둘 디렉터리
+			private DataSize segmentSize = DataSize.ofMegabytes(64); // 세그먼트 파일 하나의 크기
+			private WalFsyncPolicy fsync = WalFsyncPolicy.GROUP_COMMIT; // 디스크 동기화 시점
+			private Duration groupCommitInterval = Duration.ZERO; // GROUP_COMMIT 일 때 동기화 사이 최소 간격 (0 이면 바로 동기화)
+		}
+
+		@Getter
+		@Setter
+		public static class Snapshot {
+			private boolean enabled = true; // 잔액 스냅샷 사용 여부 (끄면 시작 시 로그 전체를 재생)
+			private String directory = "data/snapshot"; // 스냅샷 파일을 둘 디렉터리
+			private Duration interval = Duration.ofMinutes(5); // 스냅샷 주기 (종료 시에도 남김, 0 이면 종료 시에만 남김)
+			private int retain = 2; // 보관할 최근 스냅샷 수
+		}
+
+		@Getter
+		@Setter
+		public static class Primitive {
+			private int initialCapacity = 1 << 16; // 처음부터 담을 수 있는 사용자 수 (넘으면 segment 별로 두 배씩 늘린다)
+			private int segments = 64; // 락과 resize 단위 (2의 거듭제곱으로 올림)
+		}
+	}
+
+	@Getter
+	public static class History {
+		private final Index index = new Index();
+		private final WriteBehind writeBehind = new WriteBehind();
+
+		@Getter
+		@Setter
+		public static class Index {
+			private boolean enabled = false; // 사용자별 이력 인덱스 사용 여부
+		}
+
+		@Getter
+		@Setter
+		public static class WriteBehind {
+			private boolean enabled = false; // 이력 비동기 저장 사용 여부
+			private int capacity = 10_000; // 대기열 최대 크기 (가득 차면 저장 요청이 대기)
+			private int batchSize = 100; // writer 가 한 번에 저장하는 최대 이력 수
+			private Duration flushInterval = Duration.ofMillis(10); // 배치가 찰 때까지 기다리는 최대 시간
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PointService {
 
@@ -8,7 +9,24 @@ public interface PointService {
 
 	List<PointHistory> findPointHistoryAllById(long id);
 
+	List<PointHistory> findPointHistories(long id, PointHistoryCondition condition);
+
+	void streamPointHistories(long id, PointHistoryCondition condition, Consumer<PointHistory> action);
+
+	PointSummary findPointSummary(long id);
+
 	UserPoint charge(long id, long amount);
 
 	UserPoint use(long id, long amount);
+
+	/**
+	 * 같은 멱등 키로 다시 요청하면 반영하지 않고 처음 결과(또는 거절 사유)를 그대로 반환한다.
+	 */
+	UserPoint charge(long id, long amount, String idempotencyKey);
+
+	UserPoint use(long id, long amount, String idempotencyKey);
+
+	PointTransferResult transfer(long fromId, long toId, long amount);
+
+	List<PointCommandResult> executeBatch(List<PointCommand> commands);
 }
@@ -1,74 +1,550 @@
 package io.hhplus.tdd.point;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
-
 @Service
-@RequiredArgsConstructor
-public class PointServiceImpl implements PointService {
+public class PointServiceImpl implements PointService, AutoCloseable {
 	private static final long MAXIMUM_POINT = 1000L; // 최대 포인트
-	private static final ConcurrentHashMap<Long, Lock> userLocks = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<Long, Queue<PendingOperation>> pendingOperations = new ConcurrentHashMap<>();
 
 	private final UserPointRepository userPointRepository;
 	private final PointHistoryRepository pointHistoryRepository;
+	private final UserLockProvider userLockProvider;
+	private final HotUserDetector hotUserDetector;
+	private final OptimisticPointUpdater optimisticPointUpdater;
+	private final PointAggregator pointAggregator;
+	private final CommittedPointView committedPointView;
+	private final PointIdempotencyCache pointIdempotencyCache;
+	private final PointMetrics pointMetrics;
+	private final ShardedPointExecutor shardedPointExecutor; // SHARDED 모드가 아니면 null
+	private final ParallelPointWriter parallelPointWriter; // 잔액/이력 동시 저장을 쓰지 않으면 null
+	private final ForkJoinPool batchExecutor;
+	private final PointExecutionMode mode;
+	private final int maximumBatchSize;
+
+	public PointServiceImpl(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+		this(userPointRepository, pointHistoryRepository, new PointProperties());
+	}
+
+	public PointServiceImpl(
+		UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository,
+		PointProperties pointProperties
+	) {
+		this(
+			userPointRepository,
+			pointHistoryRepository,
+			pointProperties,
+			UserLockProvider.create(pointProperties.getLock()),
+			PointMetrics.noop()
+		);
+	}
+
+	public PointServiceImpl(
+		UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository,
+		PointProperties pointProperties,
+		UserLockProvider userLockProvider,
+		PointMetrics pointMetrics
+	) {
+		this(
+			userPointRepository,
+			pointHistoryRepository,
+			pointProperties,
+			userLockProvider,
+			HotUserDetector.create(pointProperties.getHotKey(), pointMetrics),
+			pointMetrics
+		);
+	}
+
+	@Autowired
+	public PointServiceImpl(
+		UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository,
+		PointProperties pointProperties,
+		UserLockProvider userLockProvider,
+		HotUserDetector hotUserDetector,
+		PointMetrics pointMetrics
+	) {
+		this.userPointRepository = userPointRepository;
+		this.pointHistoryRepository = pointHistoryRepository;
+		this.userLockProvider = userLockProvider;
+		this.hotUserDetector = hotUserDetector;
+		this.pointAggregator = new PointAggregator(pointHistoryRepository);
+		if (pointProperties.getReadView().isEnabled()) {
+			this.committedPointView = new CommittedPointView();
+			pointMetrics.bindReadViewEntries(committedPointView);
+		} else {
+			this.committedPointView = CommittedPointView.disabled();
+		}
+		this.optimisticPointUpdater = new OptimisticPointUpdater(
+			userPointRepository, pointHistoryRepository, pointAggregator, committedPointView, MAXIMUM_POINT
+		);
+		this.pointMetrics = pointMetrics;
+		if (pointProperties.getMode() == PointExecutionMode.SHARDED) {
+			this.shardedPointExecutor = new ShardedPointExecutor(
+				userPointRepository,
+				pointHistoryRepository,
+				pointAggregator,
+				committedPointView,
+				MAXIMUM_POINT,
+				pointProperties.getShard().getCount(),
+				pointProperties.getShard().getQueueCapacity()
+			);
+			pointMetrics.bindShardQueues(shardedPointExecutor);
+		} else {
+			this.shardedPointExecutor = null;
+		}
+		PointProperties.ParallelWrite parallelWrite = pointProperties.getParallelWrite();
+		this.parallelPointWriter = parallelWrite.isEnabled()
+			? new ParallelPointWriter(userPointRepository, pointHistoryRepository, parallelWrite.getThreads())
+			: null;
+		this.pointIdempotencyCache = new PointIdempotencyCache(
+			pointProperties.getIdempotency().getMaxSize(),
+			pointProperties.getIdempotency().getTtl(),
+			pointMetrics
+		);
+		pointMetrics.bindIdempotencyEntries(pointIdempotencyCache);
+		// 작업 스레드는 daemon 이고 유휴 시 정리되므로 별도 종료가 필요 없다.
+		this.batchExecutor = new ForkJoinPool(pointProperties.getBatch().getParallelism());
+		this.mode = pointProperties.getMode();
+		this.maximumBatchSize = pointProperties.getBatch().getMaxSize();
+	}
 
+	/**
+	 * 조회용 뷰를 쓰면 커밋된 잔액을 락 없이 반환한다.
+	 * 뷰에 없는 사용자만 진행 중인 저장이 끝나기를 기다려(사용자 락, shard, OPTIMISTIC 저장 락) 저장소에서 읽고 뷰를 채운다.
+	 */
 	public UserPoint findPointById(long id) {
-		return userPointRepository.selectById(id);
+		if (!committedPointView.isEnabled()) {
+			return userPointRepository.selectById(id);
+		}
+		UserPoint committed = committedPointView.get(id);
+		if (committed != null) {
+			pointMetrics.recordReadView(true);
+			return committed;
+		}
+		pointMetrics.recordReadView(false);
+		if (mode == PointExecutionMode.SHARDED) {
+			return join(shardedPointExecutor.call(id, () -> committedPointView.fill(userPointRepository.selectById(id))));
+		}
+		if (mode == PointExecutionMode.OPTIMISTIC) {
+			return optimisticPointUpdater.readCommitted(id);
+		}
+		return userLockProvider.withLock(id, () -> committedPointView.fill(userPointRepository.selectById(id)));
 	}
 
 	public List<PointHistory> findPointHistoryAllById(long id) {
 		return pointHistoryRepository.selectAllByUserId(id);
 	}
 
+	public List<PointHistory> findPointHistories(long id, PointHistoryCondition condition) {
+		return pointHistoryRepository.selectByUserId(id, condition);
+	}
+
+	public void streamPointHistories(long id, PointHistoryCondition condition, Consumer<PointHistory> action) {
+		pointHistoryRepository.forEachByUserId(id, condition, action);
+	}
+
+	/**
+	 * 잔액과 집계를 같은 사용자 락 안에서(SHARDED 모드는 shard 스레드에서) 읽어 일관된 요약을 반환한다.
+	 * OPTIMISTIC 모드는 저장 락 안에서 읽는다.
+	 */
+	public PointSummary findPointSummary(long id) {
+		if (mode == PointExecutionMode.SHARDED) {
+			return join(shardedPointExecutor.call(id, () -> pointAggregator.summarize(userPointRepository.selectById(id))));
+		}
+		if (mode == PointExecutionMode.OPTIMISTIC) {
+			return optimisticPointUpdater.summarize(id);
+		}
+		return userLockProvider.withLock(id, () -> pointAggregator.summarize(userPointRepository.selectById(id)));
+	}
+
 	public UserPoint charge(long id, long amount) {
-		Lock lock = getLockForUser(id);
-		lock.lock();
+		return execute(id, amount, TransactionType.CHARGE);
+	}
+
+	public UserPoint use(long id, long amount) {
+		return execute(id, amount, TransactionType.USE);
+	}
+
+	/**
+	 * 멱등 키를 먼저 확인하므로 재요청은 사용자 락과 저장소에 접근하지 않는다.
+	 */
+	public UserPoint charge(long id, long amount, String idempotencyKey) {
+		return pointIdempotencyCache.execute(
+			id, idempotencyKey, amount, TransactionType.CHARGE, () -> execute(id, amount, TransactionType.CHARGE)
+		);
+	}
+
+	public UserPoint use(long id, long amount, String idempotencyKey) {
+		return pointIdempotencyCache.execute(
+			id, idempotencyKey, amount, TransactionType.USE, () -> execute(id, amount, TransactionType.USE)
+		);
+	}
+
+	/**
+	 * 두 사용자의 락을 정해진 순서로 잡고 보낸 사용자의 잔액 부족과 받는 사용자의 최대 잔액을 함께 검증한 뒤,
+	 * 두 잔액과 한 쌍의 이력(보낸 사용자의 USE, 받는 사용자의 CHARGE)을 저장한다.
+	 * 저장 중 하나라도 실패하면 저장을 시도한 잔액을 이전 값으로 다시 저장하고, 이미 저장된 이력은 반대 종류의 이력으로 상쇄한다.
+	 * 되돌리기까지 실패하면 그 예외는 원래 예외에 suppressed 로 붙는다.
+	 * 사용자 락을 쓰지 않는 OPTIMISTIC, SHARDED 모드는 두 사용자를 함께 변경할 수 없으므로 지원하지 않는다.
+	 */
+	public PointTransferResult transfer(long fromId, long toId, long amount) {
+		if (fromId == toId) {
+			throw new IllegalArgumentException("자기 자신에게 이체할 수 없습니다.");
+		}
+		if (mode == PointExecutionMode.OPTIMISTIC || mode == PointExecutionMode.SHARDED) {
+			throw new IllegalStateException(mode + " 모드에서는 이체를 지원하지 않습니다.");
+		}
 		try {
-			UserPoint userPoint = userPointRepository.selectById(id);
-			long prevPoint = userPoint.point();
-			userPoint = userPoint.charge(amount);
+			return userLockProvider.withLocks(fromId, toId, () -> {
+				UserPoint from = userPointRepository.selectById(fromId);
+				UserPoint to = userPointRepository.selectById(toId);
+				UserPoint newFrom = from.use(amount);
+				UserPoint newTo = to.charge(amount);
+				UserPoint.validate(amount, from.point(), newFrom.point(), TransactionType.USE, MAXIMUM_POINT);
+				UserPoint.validate(amount, to.point(), newTo.point(), TransactionType.CHARGE, MAXIMUM_POINT);
 
-			UserPoint.validate(amount, prevPoint, userPoint.point(), TransactionType.CHARGE, MAXIMUM_POINT);
+				long now = System.currentTimeMillis();
+				PointHistory sent = new PointHistory(0, fromId, amount, TransactionType.USE, now);
+				PointHistory received = new PointHistory(0, toId, amount, TransactionType.CHARGE, now);
+				List<UserPoint> written = new ArrayList<>(2); // 저장을 시도한 잔액의 이전 값
+				List<PointHistory> saved = new ArrayList<>(2);
+				try {
+					written.add(from);
+					userPointRepository.save(newFrom);
+					written.add(to);
+					userPointRepository.save(newTo);
+					saved.add(pointHistoryRepository.save(sent));
+					saved.add(pointHistoryRepository.save(received));
+				} catch (RuntimeException e) {
+					committedPointView.invalidate(fromId);
+					committedPointView.invalidate(toId);
+					pointAggregator.invalidate(fromId);
+					pointAggregator.invalidate(toId);
+					try {
+						written.forEach(userPointRepository::save);
+						if (!saved.isEmpty()) {
+							pointHistoryRepository.saveAll(ParallelPointWriter.reversed(saved));
+						}
+					} catch (RuntimeException rollbackFailure) {
+						e.addSuppressed(rollbackFailure);
+					}
+					throw e;
+				}
+				pointAggregator.record(fromId, List.of(sent));
+				pointAggregator.record(toId, List.of(received));
+				committedPointView.publish(newFrom);
+				committedPointView.publish(newTo);
+				return new PointTransferResult(newFrom, newTo);
+			});
+		} catch (PointValidationException e) {
+			pointMetrics.recordRejection(e.getReason());
+			throw e;
+		}
+	}
+
+	/**
+	 * 요청을 사용자별로 나누어 서로 다른 사용자는 동시에, 같은 사용자는 요청 순서대로 처리한다.
+	 * 사용자마다 락을 한 번만 잡고 잔액 조회/저장도 한 번씩만 한다. 결과는 요청과 같은 순서로 반환한다.
+	 * 충전/사용 구분이 없거나 금액이 0 이하인 요청은 락을 잡기 전에 거절한다.
+	 */
+	public List<PointCommandResult> executeBatch(List<PointCommand> commands) {
+		if (commands.size() > maximumBatchSize) {
+			throw new IllegalArgumentException("한 번에 처리할 수 있는 요청 수(" + maximumBatchSize + ")를 초과했습니다.");
+		}
+
+		List<PendingOperation> operations = new ArrayList<>(commands.size());
+		Map<Long, List<PendingOperation>> operationsByUser = new LinkedHashMap<>();
+		for (PointCommand command : commands) {
+			PendingOperation operation = new PendingOperation(command.amount(), command.type());
+			operations.add(operation);
+			try {
+				validate(command);
+			} catch (PointValidationException e) {
+				operation.result.completeExceptionally(e);
+				continue;
+			}
+			operationsByUser.computeIfAbsent(command.userId(), key -> new ArrayList<>()).add(operation);
+		}
 
-			userPointRepository.save(userPoint);
-			pointHistoryRepository.save(
-				new PointHistory(0, id, amount, TransactionType.CHARGE, System.currentTimeMillis())
+		CompletableFuture<?>[] tasks = operationsByUser.entrySet().stream()
+			.map(entry -> CompletableFuture.runAsync(
+				() -> executeAll(entry.getKey(), entry.getValue()), batchExecutor
+			))
+			.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(tasks).join();
+
+		List<PointCommandResult> results = new ArrayList<>(commands.size());
+		for (int i = 0; i < commands.size(); i++) {
+			PointCommandResult result = operations.get(i).toResult(commands.get(i));
+			if (result.reason() != null) {
+				pointMetrics.recordRejection(result.reason());
+			}
+			results.add(result);
+		}
+		return results;
+	}
+
+	/**
+	 * 잔액과 무관하게 판단할 수 있는 요청 오류를 검증한다.
+	 */
+	private static void validate(PointCommand command) {
+		if (command.type() == null) {
+			throw new PointValidationException(
+				PointValidationException.Reason.MISSING_TYPE, "충전/사용 구분이 없습니다."
+			);
+		}
+		if (command.amount() <= 0) {
+			throw new PointValidationException(
+				PointValidationException.Reason.NON_POSITIVE_AMOUNT, "값이 양수이어야 합니다."
 			);
+		}
+	}
 
-			return userPoint;
-		} finally {
-			lock.unlock();
+	private void executeAll(long id, List<PendingOperation> operations) {
+		try {
+			if (mode == PointExecutionMode.SHARDED) {
+				// 같은 사용자의 요청을 순서대로 넣으면 shard 가 순서대로 처리한다.
+				for (PendingOperation operation : operations) {
+					shardedPointExecutor.submit(id, operation.amount, operation.type).whenComplete((userPoint, e) -> {
+						if (e != null) {
+							operation.result.completeExceptionally(e);
+						} else {
+							operation.result.complete(userPoint);
+						}
+					});
+				}
+				return;
+			}
+			if (mode == PointExecutionMode.OPTIMISTIC) {
+				// 락을 쓰지 않는 모드이므로 한 건씩 CAS 로 반영한다.
+				for (PendingOperation operation : operations) {
+					try {
+						operation.result.complete(optimisticPointUpdater.update(id, operation.amount, operation.type));
+					} catch (RuntimeException e) {
+						operation.result.completeExceptionally(e);
+					}
+				}
+				return;
+			}
+			userLockProvider.withLock(id, () -> {
+				applyAll(id, operations);
+				return null;
+			});
+		} catch (RuntimeException e) {
+			operations.forEach(operation -> operation.result.completeExceptionally(e)); // 이미 완료된 요청은 무시된다.
 		}
 	}
 
-	public UserPoint use(long id, long amount) {
-		Lock lock = getLockForUser(id);
-		lock.lock();
+	private UserPoint execute(long id, long amount, TransactionType type) {
 		try {
-			UserPoint userPoint = userPointRepository.selectById(id);
-			long prevPoint = userPoint.point();
-			userPoint = userPoint.use(amount);
+			return dispatch(id, amount, type);
+		} catch (PointValidationException e) {
+			pointMetrics.recordRejection(e.getReason());
+			throw e;
+		}
+	}
 
-			UserPoint.validate(amount, prevPoint, userPoint.point(), TransactionType.USE, MAXIMUM_POINT);
+	private UserPoint dispatch(long id, long amount, TransactionType type) {
+		hotUserDetector.record(id);
+		if (mode == PointExecutionMode.COMBINING) {
+			return combine(id, new PendingOperation(amount, type));
+		}
+		if (mode == PointExecutionMode.OPTIMISTIC) {
+			return optimisticPointUpdater.update(id, amount, type);
+		}
+		if (mode == PointExecutionMode.SHARDED) {
+			return join(shardedPointExecutor.submit(id, amount, type));
+		}
+		if (hotUserDetector.isAdaptive() && hotUserDetector.isHot(id)) {
+			// 요청이 몰리는 사용자는 락을 기다리는 요청들을 한 번의 락/조회/저장으로 모아서 처리한다.
+			return combine(id, new PendingOperation(amount, type));
+		}
 
-			userPointRepository.save(userPoint);
-			pointHistoryRepository.save(
-				new PointHistory(0, id, amount, TransactionType.USE, System.currentTimeMillis())
-			);
+		return userLockProvider.withLock(id, () -> {
+			UserPoint previous = userPointRepository.selectById(id);
+			UserPoint userPoint = apply(previous, amount, type);
+
+			UserPoint.validate(amount, previous.point(), userPoint.point(), type, MAXIMUM_POINT);
+
+			PointHistory history = new PointHistory(0, id, amount, type, System.currentTimeMillis());
+			commit(previous, userPoint, List.of(history));
 
 			return userPoint;
-		} finally {
-			lock.unlock();
+		});
+	}
+
+	/**
+	 * 요청을 사용자별 대기열에 넣고 락을 잡는다.
+	 * 락을 얻었을 때 이미 앞선 스레드가 처리했다면 결과만 반환하고, 아니라면 대기열 전체를 대신 처리한다.
+	 * 락 획득 거절, 인터럽트 등 어떤 예외로든 실패하면 대기열에서 요청을 빼고 그 예외로 완료한다.
+	 * 이미 다른 스레드가 꺼내 갔다면 그 스레드가 완료하므로 결과를 기다린다.
+	 */
+	private UserPoint combine(long id, PendingOperation operation) {
+		Queue<PendingOperation> queue = pendingOperations.computeIfAbsent(id, key -> new ConcurrentLinkedQueue<>());
+		queue.add(operation);
+
+		try {
+			userLockProvider.withLock(id, () -> {
+				if (!operation.result.isDone()) {
+					drain(id, queue);
+				}
+				return null;
+			});
+		} catch (RuntimeException | Error e) {
+			if (queue.remove(operation)) {
+				operation.result.completeExceptionally(e);
+				throw e;
+			}
+		}
+		return operation.join();
+	}
+
+	/**
+	 * 락을 잡은 상태에서 호출된다.
+	 * 대기 중인 요청들을 모두 꺼내 도착 순서대로 처리한다.
+	 */
+	private void drain(long id, Queue<PendingOperation> queue) {
+		List<PendingOperation> batch = new ArrayList<>();
+		PendingOperation next;
+		while ((next = queue.poll()) != null) {
+			batch.add(next);
+		}
+		if (queue.isEmpty()) {
+			pendingOperations.remove(id, queue); // 비어있는 대기열은 정리 (늦게 들어온 요청은 해당 스레드가 직접 처리)
+		}
+		applyAll(id, batch);
+	}
+
+	/**
+	 * 락을 잡은 상태에서 호출된다.
+	 * 한 번 조회한 잔액에 요청들을 순서대로 적용/검증하고, 최종 잔액과 이력은 한 번에 저장한 뒤 각 요청을 완료한다.
+	 */
+	private void applyAll(long id, List<PendingOperation> batch) {
+		try {
+			UserPoint opening = userPointRepository.selectById(id);
+			UserPoint userPoint = opening;
+			List<PendingOperation> applied = new ArrayList<>();
+			List<PointHistory> histories = new ArrayList<>();
+
+			for (PendingOperation operation : batch) {
+				long prevPoint = userPoint.point();
+				UserPoint newPoint = apply(userPoint, operation.amount, operation.type);
+				try {
+					UserPoint.validate(operation.amount, prevPoint, newPoint.point(), operation.type, MAXIMUM_POINT);
+				} catch (PointValidationException e) {
+					operation.result.completeExceptionally(e); // 거절된 요청은 잔액에 반영하지 않음
+					continue;
+				}
+				userPoint = newPoint;
+				operation.applied = newPoint;
+				applied.add(operation);
+				histories.add(new PointHistory(0, id, operation.amount, operation.type, System.currentTimeMillis()));
+			}
+
+			if (!applied.isEmpty()) {
+				commit(opening, userPoint, histories);
+			}
+			applied.forEach(operation -> operation.result.complete(operation.applied));
+		} catch (RuntimeException e) {
+			batch.forEach(operation -> operation.result.completeExceptionally(e));
+		} catch (Error e) {
+			batch.forEach(operation -> operation.result.completeExceptionally(e)); // 꺼낸 요청이 완료되지 않은 채 남지 않도록 한다.
+			throw e;
+		}
+	}
+
+	/**
+	 * 락을 잡은 상태에서 호출된다.
+	 * previous 는 histories 를 반영하기 전 저장소에서 읽은 잔액이다.
+	 * 잔액과 이력을 저장한 뒤 집계와 조회용 뷰에 반영한다. 저장이 실패하면 결과를 알 수 없으므로 뷰와 집계에서 지운다.
+	 */
+	private void commit(UserPoint previous, UserPoint userPoint, List<PointHistory> histories) {
+		try {
+			if (parallelPointWriter != null) {
+				parallelPointWriter.write(previous, userPoint, histories);
+			} else {
+				userPointRepository.save(userPoint);
+				pointHistoryRepository.saveAll(histories);
+			}
+		} catch (RuntimeException e) {
+			committedPointView.invalidate(userPoint.id());
+			pointAggregator.invalidate(userPoint.id());
+			throw e;
+		}
+		pointAggregator.record(userPoint.id(), histories);
+		committedPointView.publish(userPoint);
+	}
+
+	/**
+	 * 배치 작업 스레드, shard 스레드, 동시 저장용 I/O 스레드를 종료한다. shard 는 큐에 남은 요청을 모두 처리한 뒤 종료한다.
+	 */
+	@Override
+	public void close() {
+		batchExecutor.shutdown();
+		if (shardedPointExecutor != null) {
+			shardedPointExecutor.close();
+		}
+		if (parallelPointWriter != null) {
+			parallelPointWriter.close();
 		}
 	}
 
-	private Lock getLockForUser(long id) {
-		return userLocks.computeIfAbsent(id, key -> new ReentrantLock());
+	/**
+	 * 비동기 결과를 기다리고, 실패 원인(PointValidationException 등)을 그대로 던진다.
+	 */
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private UserPoint apply(UserPoint userPoint, long amount, TransactionType type) {
+		return type == TransactionType.CHARGE ? userPoint.charge(amount) : userPoint.use(amount);
+	}
+
+	private static class PendingOperation {
+		private final long amount;
+		private final TransactionType type;
+		private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+		private UserPoint applied;
+
+		private PendingOperation(long amount, TransactionType type) {
+			this.amount = amount;
+			this.type = type;
+		}
+
+		private PointCommandResult toResult(PointCommand command) {
+			try {
+				return PointCommandResult.success(command, join());
+			} catch (RuntimeException e) {
+				return PointCommandResult.failure(command, e);
+			}
+		}
+
+		private UserPoint join() {
+			return PointServiceImpl.join(result);
+		}
 	}
 }
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import java.nio.file.Path;
+
+/**
+ * 잔액 스냅샷의 헤더.
+ * walPosition 까지의 로그가 반영된 잔액과, 그 시점까지 발급된 마지막 이력 id 를 담는다.
+ */
+public record PointSnapshot(
+	Path path,
+	long walPosition,
+	long lastHistoryId,
+	long userCount
+) {
+
+}
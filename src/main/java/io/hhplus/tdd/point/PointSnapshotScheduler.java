@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 주기적으로, 그리고 종료할 때 잔액 스냅샷을 남긴다. 주기가 0 이면 종료할 때만 남긴다.
+ * 마지막 스냅샷 이후 로그가 늘지 않았다면 건너뛴다.
+ */
+public class PointSnapshotScheduler implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(PointSnapshotScheduler.class);
+
+	private final WalUserPointRepository userPointRepository;
+	private final WalPointHistoryRepository pointHistoryRepository;
+	private final PointSnapshotStore snapshotStore;
+	private final WriteAheadLog writeAheadLog;
+	private final ScheduledExecutorService scheduler;
+	private final ReentrantLock lock = new ReentrantLock();
+	private long lastSnapshotPosition = -1; // lock 안에서만 읽고 쓴다.
+
+	public PointSnapshotScheduler(
+		WalUserPointRepository userPointRepository,
+		WalPointHistoryRepository pointHistoryRepository,
+		PointSnapshotStore snapshotStore,
+		WriteAheadLog writeAheadLog,
+		Duration interval
+	) {
+		if (interval.isNegative()) {
+			throw new IllegalArgumentException("스냅샷 주기는 0 이상이어야 합니다.");
+		}
+		this.userPointRepository = userPointRepository;
+		this.pointHistoryRepository = pointHistoryRepository;
+		this.snapshotStore = snapshotStore;
+		this.writeAheadLog = writeAheadLog;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "point-snapshot");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (!interval.isZero()) {
+			long intervalMillis = Math.max(1, interval.toMillis());
+			scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 스냅샷을 남기고, 로그가 늘지 않았다면 null 을 반환한다.
+	 */
+	public PointSnapshot snapshot() {
+		lock.lock();
+		try {
+			if (writeAheadLog.position() == lastSnapshotPosition) {
+				return null;
+			}
+			long start = System.nanoTime();
+			PointSnapshot snapshot = userPointRepository.snapshot(snapshotStore, pointHistoryRepository::lastHistoryId);
+			lastSnapshotPosition = snapshot.walPosition();
+			log.info("잔액 {}건의 스냅샷을 남겼습니다. {} ({} ms)",
+				snapshot.userCount(), snapshot.path(), (System.nanoTime() - start) / 1_000_000);
+			return snapshot;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdown();
+		try {
+			scheduler.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		snapshotQuietly();
+	}
+
+	private void snapshotQuietly() {
+		try {
+			snapshot();
+		} catch (RuntimeException e) {
+			log.error("스냅샷을 남기지 못했습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 잔액 스냅샷 파일을 쓰고 읽는다.
+ * - 파일 : [헤더 | 청크 ...]. 헤더는 (magic, version, walPosition, lastHistoryId, userCount, chunkRecords, CRC32C) 이다.
+ * - 청크 : [레코드 수(4) | CRC32C(4) | (id, point, updateMillis) * 레코드 수]. 마지막 청크를 제외하면 모두 chunkRecords 개를 담는다.
+ * - 청크 위치를 헤더만으로 계산할 수 있으므로 읽을 때 청크를 여러 코어에서 나누어 읽는다.
+ * - 임시 파일에 모두 쓰고 동기화한 뒤 이름을 바꿔 공개하므로, 쓰는 도중 종료되어도 이전 스냅샷은 그대로 남는다.
+ */
+public class PointSnapshotStore {
+
+	private static final Logger log = LoggerFactory.getLogger(PointSnapshotStore.class);
+	private static final int MAGIC = 0x50534E50; // "PSNP"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 3 + Integer.BYTES * 2;
+	private static final int CHUNK_HEADER_SIZE = Integer.BYTES * 2;
+	private static final int RECORD_SIZE = Long.BYTES * 3;
+	private static final int DEFAULT_CHUNK_RECORDS = 65_536;
+	private static final String SNAPSHOT_SUFFIX = ".snap";
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final Path directory;
+	private final int retain;
+	private final int chunkRecords;
+
+	public PointSnapshotStore(Path directory, int retain) {
+		this(directory, retain, DEFAULT_CHUNK_RECORDS);
+	}
+
+	public PointSnapshotStore(Path directory, int retain, int chunkRecords) {
+		if (retain <= 0 || chunkRecords <= 0) {
+			throw new IllegalArgumentException("보관 개수와 청크 크기는 양수이어야 합니다.");
+		}
+		this.directory = directory;
+		this.retain = retain;
+		this.chunkRecords = chunkRecords;
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 잔액 스냅샷을 쓰고 최근 retain 개만 남긴다.
+	 * balances 는 순회 중에 바뀌어도 되지만, walPosition 까지의 로그는 모두 반영된 상태여야 한다.
+	 */
+	public PointSnapshot write(long walPosition, long lastHistoryId, Iterable<UserPoint> balances) {
+		Path path = directory.resolve(String.format("%020d%s", walPosition, SNAPSHOT_SUFFIX));
+		Path temp = directory.resolve(path.getFileName() + TEMP_SUFFIX);
+		long count = 0;
+		try (FileChannel channel = FileChannel.open(
+			temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE
+		)) {
+			ByteBuffer chunk = ByteBuffer.allocate(CHUNK_HEADER_SIZE + chunkRecords * RECORD_SIZE);
+			CRC32C checksum = new CRC32C();
+			long offset = HEADER_SIZE;
+			chunk.position(CHUNK_HEADER_SIZE);
+			for (UserPoint userPoint : balances) {
+				chunk.putLong(userPoint.id()).putLong(userPoint.point()).putLong(userPoint.updateMillis());
+				count++;
+				if (!chunk.hasRemaining()) {
+					offset += writeChunk(channel, chunk, offset, checksum);
+				}
+			}
+			if (chunk.position() > CHUNK_HEADER_SIZE) {
+				writeChunk(channel, chunk, offset, checksum);
+			}
+			writeFully(channel, header(walPosition, lastHistoryId, count), 0);
+			channel.force(true);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		try {
+			Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		cleanUp();
+		return new PointSnapshot(path, walPosition, lastHistoryId, count);
+	}
+
+	/**
+	 * 헤더가 온전한 스냅샷을 최신순으로 반환한다.
+	 */
+	public List<PointSnapshot> snapshots() {
+		List<PointSnapshot> snapshots = new ArrayList<>();
+		for (Path path : files(SNAPSHOT_SUFFIX)) {
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				Header header = readHeader(channel);
+				snapshots.add(new PointSnapshot(path, header.walPosition, header.lastHistoryId, header.userCount));
+			} catch (IOException | IllegalStateException e) {
+				log.warn("스냅샷 헤더를 읽을 수 없어 건너뜁니다. {}", path, e);
+			}
+		}
+		return snapshots;
+	}
+
+	/**
+	 * 스냅샷의 잔액을 청크 단위로 나누어 여러 스레드에서 읽는다. consumer 는 동시에 호출될 수 있다.
+	 * 청크의 레코드 수나 CRC 가 맞지 않으면 IllegalStateException 이 발생한다.
+	 */
+	public void load(PointSnapshot snapshot, Consumer<UserPoint> consumer) {
+		try (FileChannel channel = FileChannel.open(snapshot.path(), StandardOpenOption.READ)) {
+			Header header = readHeader(channel);
+			long chunkSize = CHUNK_HEADER_SIZE + (long)header.chunkRecords * RECORD_SIZE;
+			long chunks = (header.userCount + header.chunkRecords - 1) / header.chunkRecords;
+			LongStream.range(0, chunks).parallel().forEach(i -> {
+				int records = (int)Math.min(header.chunkRecords, header.userCount - i * header.chunkRecords);
+				loadChunk(channel, HEADER_SIZE + i * chunkSize, records, consumer);
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void loadChunk(FileChannel channel, long offset, int records, Consumer<UserPoint> consumer) {
+		MappedByteBuffer chunk;
+		try {
+			chunk = channel.map(FileChannel.MapMode.READ_ONLY, offset, CHUNK_HEADER_SIZE + (long)records * RECORD_SIZE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (chunk.getInt(0) != records) {
+			throw new IllegalStateException("스냅샷 청크의 레코드 수가 맞지 않습니다. (offset " + offset + ")");
+		}
+		CRC32C checksum = new CRC32C();
+		checksum.update(chunk.duplicate().position(CHUNK_HEADER_SIZE));
+		if ((int)checksum.getValue() != chunk.getInt(Integer.BYTES)) {
+			throw new IllegalStateException("스냅샷 청크가 손상되었습니다. (offset " + offset + ")");
+		}
+		chunk.position(CHUNK_HEADER_SIZE);
+		for (int i = 0; i < records; i++) {
+			consumer.accept(new UserPoint(chunk.getLong(), chunk.getLong(), chunk.getLong()));
+		}
+	}
+
+	private long writeChunk(FileChannel channel, ByteBuffer chunk, long offset, CRC32C checksum) throws IOException {
+		int records = (chunk.position() - CHUNK_HEADER_SIZE) / RECORD_SIZE;
+		chunk.flip().position(CHUNK_HEADER_SIZE);
+		checksum.reset();
+		checksum.update(chunk);
+		chunk.putInt(0, records).putInt(Integer.BYTES, (int)checksum.getValue());
+		chunk.position(0);
+		long written = writeFully(channel, chunk, offset);
+		chunk.clear().position(CHUNK_HEADER_SIZE);
+		return written;
+	}
+
+	private long writeFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+		long written = 0;
+		while (buffer.hasRemaining()) {
+			written += channel.write(buffer, offset + written);
+		}
+		return written;
+	}
+
+	private ByteBuffer header(long walPosition, long lastHistoryId, long userCount) {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+			.putInt(MAGIC)
+			.putInt(VERSION)
+			.putLong(walPosition)
+			.putLong(lastHistoryId)
+			.putLong(userCount)
+			.putInt(chunkRecords);
+		CRC32C checksum = new CRC32C();
+		checksum.update(header.array(), 0, header.position());
+		return header.putInt((int)checksum.getValue()).flip();
+	}
+
+	private Header readHeader(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		while (header.hasRemaining()) {
+			if (channel.read(header, header.position()) < 0) {
+				throw new IllegalStateException("스냅샷 헤더가 잘렸습니다.");
+			}
+		}
+		CRC32C checksum = new CRC32C();
+		checksum.update(header.array(), 0, HEADER_SIZE - Integer.BYTES);
+		header.flip();
+		if (header.getInt() != MAGIC || header.getInt() != VERSION
+			|| (int)checksum.getValue() != header.getInt(HEADER_SIZE - Integer.BYTES)) {
+			throw new IllegalStateException("스냅샷 헤더가 올바르지 않습니다.");
+		}
+		return new Header(header.getLong(), header.getLong(), header.getLong(), header.getInt());
+	}
+
+	/**
+	 * 최근 retain 개를 제외한 스냅샷과 남아있는 임시 파일을 지운다.
+	 */
+	private void cleanUp() {
+		List<Path> snapshots = files(SNAPSHOT_SUFFIX);
+		List<Path> stale = new ArrayList<>(files(TEMP_SUFFIX));
+		stale.addAll(snapshots.subList(Math.min(retain, snapshots.size()), snapshots.size()));
+		for (Path path : stale) {
+			try {
+				Files.deleteIfExists(path);
+			} catch (IOException e) {
+				log.warn("오래된 스냅샷을 지우지 못했습니다. {}", path, e);
+			}
+		}
+	}
+
+	/**
+	 * 파일명(= walPosition) 기준 최신순
+	 */
+	private List<Path> files(String suffix) {
+		try (Stream<Path> list = Files.list(directory)) {
+			return list.filter(path -> path.getFileName().toString().endsWith(suffix))
+				.sorted(Comparator.reverseOrder())
+				.toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private record Header(long walPosition, long lastHistoryId, long userCount, int chunkRecords) {
+	}
+}
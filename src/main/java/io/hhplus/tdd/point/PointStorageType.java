@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 잔액/이력 저장 방식
+ * - MEMORY : 메모리 테이블(UserPointTable, PointHistoryTable)에 저장 (재시작 시 유실)
+ * - WAL : write-ahead log 파일에 기록하고 시작 시 재생해 복구
+ * - PRIMITIVE : 잔액은 primitive 배열 해시 테이블(PrimitiveUserPointRepository), 이력은 열 단위 배열(ColumnarPointHistoryRepository)에 저장 (재시작 시 유실)
+ */
+public enum PointStorageType {
+	MEMORY, WAL, PRIMITIVE
+}
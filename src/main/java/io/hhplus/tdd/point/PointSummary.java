@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용자별 누적 집계.
+ * - totalCharged / totalUsed / transactionCount : 저장된 이력 전체의 충전 합계, 사용 합계, 거래 수
+ * - lastTransactionMillis : 마지막 거래 시각 (거래가 없으면 0)
+ * - consistent : 현재 잔액 == totalCharged - totalUsed 여부 (이력 없이 바뀐 잔액이 있으면 false)
+ */
+public record PointSummary(
+	long userId,
+	long point,
+	long totalCharged,
+	long totalUsed,
+	long transactionCount,
+	long lastTransactionMillis,
+	boolean consistent
+) {
+
+	public static PointSummary of(UserPoint userPoint, long totalCharged, long totalUsed, long transactionCount,
+		long lastTransactionMillis) {
+		return new PointSummary(
+			userPoint.id(),
+			userPoint.point(),
+			totalCharged,
+			totalUsed,
+			transactionCount,
+			lastTransactionMillis,
+			userPoint.point() == totalCharged - totalUsed
+		);
+	}
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이체 요청 (받는 사용자, 금액)
+ */
+public record PointTransferRequest(
+	long toUserId,
+	long amount
+) {
+
+}
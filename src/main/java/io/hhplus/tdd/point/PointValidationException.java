@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import lombok.Getter;
+
+/**
+ * 포인트 정책 검증 실패. 거절 사유별 집계를 위해 사유를 함께 담는다.
+ */
+@Getter
+public class PointValidationException extends IllegalArgumentException {
+
+	private final Reason reason;
+
+	public PointValidationException(Reason reason, String message) {
+		super(message);
+		this.reason = reason;
+	}
+
+	/**
+	 * - NON_POSITIVE_AMOUNT : 금액이 0 이하
+	 * - EXCEEDS_MAXIMUM : 충전 후 최대 잔액 초과
+	 * - INSUFFICIENT_POINT : 사용할 포인트 부족
+	 * - MISSING_TYPE : 충전/사용 구분이 없음 (일괄 처리 요청)
+	 */
+	public enum Reason {
+		NON_POSITIVE_AMOUNT, EXCEEDS_MAXIMUM, INSUFFICIENT_POINT, MISSING_TYPE
+	}
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class PointWebConfiguration implements WebMvcConfigurer {
+
+	/**
+	 * 기본 변환기(JSON) 뒤에 추가해 Accept 로 바이너리를 요청할 때만 쓰이게 한다.
+	 */
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(new PointBinaryHttpMessageConverter());
+	}
+}
@@ -0,0 +1,239 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 잔액을 primitive 배열의 open addressing 해시 테이블에 저장하는 UserPointRepository.
+ * - 슬롯 하나는 long[] 안의 연속된 (id, point, updateMillis) 3칸이다. 사용자마다 Long/UserPoint 객체를 두지 않으므로
+ *   GC 가 추적할 참조가 없고, 사용자당 메모리는 24바이트 / 적재율(최대 0.75) 이다.
+ * - id 0 은 빈 슬롯 표시로 쓰므로 segment 마다 별도 필드에 둔다.
+ * - 해시 상위 비트로 segment 를 고르고 segment 마다 StampedLock 을 둔다. 조회는 낙관적 읽기 후 검증하고, 쓰기 경합이 있을 때만 읽기 락을 잡는다.
+ * - 슬롯 위치는 해시 하위 32비트에 용량을 곱해 구하므로(multiply-shift) 용량이 2의 거듭제곱일 필요가 없다. 초기 용량을 사용자 수에 맞추면 낭비가 적재율만큼만 생긴다.
+ * - 적재율을 넘으면 해당 segment 만 두 배로 늘린다. (전체 테이블을 한 번에 복사하지 않는다.)
+ */
+public class PrimitiveUserPointRepository implements UserPointRepository {
+
+	private static final int SLOT_WIDTH = 3; // id, point, updateMillis
+	private static final int MAX_SEGMENT_CAPACITY = 1 << 29; // SLOT_WIDTH 배 해도 배열 최대 길이를 넘지 않는 크기
+	private static final float LOAD_FACTOR = 0.75f;
+	private static final long EMPTY = 0L;
+
+	private final Segment[] segments;
+	private final int segmentMask;
+
+	public PrimitiveUserPointRepository(int initialCapacity, int segments) {
+		if (initialCapacity <= 0 || segments <= 0) {
+			throw new IllegalArgumentException("초기 용량과 segment 수는 양수이어야 합니다.");
+		}
+		int segmentCount = powerOfTwo(segments);
+		double expected = (double)initialCapacity / segmentCount;
+		double headroom = 4 * Math.sqrt(expected); // segment 별 사용자 수 편차 때문에 일부 segment 만 두 배가 되지 않도록
+		int perSegment = (int)Math.min(MAX_SEGMENT_CAPACITY, (long)Math.ceil((expected + headroom) / LOAD_FACTOR));
+		this.segments = new Segment[segmentCount];
+		this.segmentMask = segmentCount - 1;
+		for (int i = 0; i < segmentCount; i++) {
+			this.segments[i] = new Segment(Math.max(2, perSegment));
+		}
+	}
+
+	@Override
+	public UserPoint save(UserPoint userPoint) {
+		UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis());
+		long hash = hash(saved.id());
+		segmentOf(hash).put(saved.id(), hash, saved.point(), saved.updateMillis());
+		return saved;
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		long hash = hash(id);
+		UserPoint userPoint = segmentOf(hash).get(id, hash);
+		return userPoint != null ? userPoint : UserPoint.empty(id);
+	}
+
+	/**
+	 * 저장된 사용자 수
+	 */
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * 할당된 슬롯 수 (사용자당 메모리 = capacity * 24 / size)
+	 */
+	public long capacity() {
+		long capacity = 0;
+		for (Segment segment : segments) {
+			capacity += segment.capacity();
+		}
+		return capacity;
+	}
+
+	private Segment segmentOf(long hash) {
+		return segments[(int)(hash >>> 32) & segmentMask];
+	}
+
+	/**
+	 * 2의 거듭제곱으로 올림
+	 */
+	private static int powerOfTwo(int value) {
+		return Integer.highestOneBit(value) == value ? value : Integer.highestOneBit(value) << 1;
+	}
+
+	/**
+	 * murmur3 fmix64. 연속된 id 도 슬롯과 segment 에 고르게 퍼지도록 섞는다.
+	 */
+	private static long hash(long id) {
+		long h = id;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static final class Segment {
+
+		private final StampedLock lock = new StampedLock();
+		// 아래 필드는 쓰기 락 안에서만 변경한다. 낙관적 읽기는 값을 읽은 뒤 validate 로 확인한다.
+		private long[] slots;
+		private int size;
+		private int threshold;
+		private boolean hasZero;
+		private long zeroPoint;
+		private long zeroUpdateMillis;
+
+		private Segment(int capacity) {
+			this.slots = new long[capacity * SLOT_WIDTH];
+			this.threshold = (int)(capacity * LOAD_FACTOR);
+		}
+
+		private UserPoint get(long id, long hash) {
+			long stamp = lock.tryOptimisticRead();
+			UserPoint userPoint = find(id, hash);
+			if (lock.validate(stamp)) {
+				return userPoint;
+			}
+			stamp = lock.readLock();
+			try {
+				return find(id, hash);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		private static int indexOf(long hash, int capacity) {
+			return (int)(((hash & 0xFFFFFFFFL) * capacity) >>> 32);
+		}
+
+		/**
+		 * 배열 참조를 지역 변수로 한 번만 읽으므로, 낙관적 읽기 중에 resize 가 일어나도 범위를 벗어나지 않는다.
+		 * 슬롯은 채워지기만 하고 비워지지 않으며 적재율이 1 미만이므로 탐색은 빈 슬롯에서 끝난다.
+		 */
+		private UserPoint find(long id, long hash) {
+			if (id == EMPTY) {
+				return hasZero ? new UserPoint(id, zeroPoint, zeroUpdateMillis) : null;
+			}
+			long[] table = slots;
+			int capacity = table.length / SLOT_WIDTH;
+			int index = indexOf(hash, capacity);
+			for (int probe = 0; probe < capacity; probe++) {
+				int offset = index * SLOT_WIDTH;
+				long key = table[offset];
+				if (key == id) {
+					return new UserPoint(id, table[offset + 1], table[offset + 2]);
+				}
+				if (key == EMPTY) {
+					return null;
+				}
+				index = index + 1 == capacity ? 0 : index + 1;
+			}
+			return null;
+		}
+
+		private void put(long id, long hash, long point, long updateMillis) {
+			long stamp = lock.writeLock();
+			try {
+				if (id == EMPTY) {
+					if (!hasZero) {
+						hasZero = true;
+						size++;
+					}
+					zeroPoint = point;
+					zeroUpdateMillis = updateMillis;
+					return;
+				}
+				if (insert(slots, id, hash, point, updateMillis)) {
+					size++;
+					if (size > threshold) {
+						resize();
+					}
+				}
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		/**
+		 * 새 사용자를 추가했으면 true, 기존 사용자를 갱신했으면 false
+		 */
+		private static boolean insert(long[] table, long id, long hash, long point, long updateMillis) {
+			int capacity = table.length / SLOT_WIDTH;
+			int index = indexOf(hash, capacity);
+			while (true) {
+				int offset = index * SLOT_WIDTH;
+				long key = table[offset];
+				if (key == id || key == EMPTY) {
+					table[offset + 1] = point;
+					table[offset + 2] = updateMillis;
+					table[offset] = id;
+					return key == EMPTY;
+				}
+				index = index + 1 == capacity ? 0 : index + 1;
+			}
+		}
+
+		/**
+		 * 새 배열을 모두 채운 뒤에 교체하므로 낙관적 읽기는 옛 배열이나 완성된 새 배열만 본다.
+		 */
+		private void resize() {
+			int capacity = slots.length / SLOT_WIDTH;
+			if (capacity >= MAX_SEGMENT_CAPACITY) {
+				throw new IllegalStateException("잔액 테이블 segment 를 더 늘릴 수 없습니다. segment 수를 늘려야 합니다.");
+			}
+			int resizedCapacity = (int)Math.min(MAX_SEGMENT_CAPACITY, capacity * 2L);
+			long[] resized = new long[resizedCapacity * SLOT_WIDTH];
+			for (int offset = 0; offset < slots.length; offset += SLOT_WIDTH) {
+				long id = slots[offset];
+				if (id != EMPTY) {
+					insert(resized, id, hash(id), slots[offset + 1], slots[offset + 2]);
+				}
+			}
+			slots = resized;
+			threshold = (int)(resizedCapacity * LOAD_FACTOR);
+		}
+
+		private int size() {
+			long stamp = lock.readLock();
+			try {
+				return size;
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		private int capacity() {
+			long stamp = lock.readLock();
+			try {
+				return slots.length / SLOT_WIDTH;
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 락을 잡고 있거나 기다리는 스레드 수를 세고, 0이 되면 맵에서 제거한다.
+ * 참조 수 변경은 ConcurrentHashMap 의 compute 안에서만 일어나므로 키 단위로 원자적이다.
+ */
+public class ReferenceCountedUserLockProvider extends AbstractUserLockProvider {
+
+	private final ConcurrentHashMap<Long, CountedLock> locks = new ConcurrentHashMap<>();
+
+	public ReferenceCountedUserLockProvider() {
+	}
+
+	public ReferenceCountedUserLockProvider(PointMetrics pointMetrics) {
+		super(pointMetrics);
+	}
+
+	public ReferenceCountedUserLockProvider(PointMetrics pointMetrics, UserLockPolicy policy) {
+		super(pointMetrics, policy);
+	}
+
+	@Override
+	protected UserLock obtain(long userId) {
+		return locks.compute(userId, (key, counted) -> {
+			CountedLock lock = counted == null ? new CountedLock(policy().fair()) : counted;
+			lock.references++;
+			return lock;
+		});
+	}
+
+	@Override
+	protected void release(long userId, UserLock lock) {
+		locks.computeIfPresent(userId, (key, counted) -> --counted.references == 0 ? null : counted);
+	}
+
+	@Override
+	public int size() {
+		return locks.size();
+	}
+
+	private static class CountedLock extends UserLock {
+		private int references;
+
+		private CountedLock(boolean fair) {
+			super(fair);
+		}
+	}
+}
@@ -0,0 +1,295 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * SHARDED 모드의 구현.
+ * 사용자 ID 해시로 shard 를 고르고, shard 마다 전용 스레드 하나가 bounded 큐(mailbox)의 메시지를 도착 순서대로 처리한다.
+ * - 한 사용자의 잔액은 해당 shard 스레드만 읽고 쓰므로 사용자 락이 없다. 잔액은 shard 의 HashMap 에 두고 처음 요청될 때 저장소에서 읽는다.
+ * - 한 번에 꺼낸 메시지들을 순서대로 검증/반영한 뒤, 사용자마다 잔액은 한 번 저장하고 이력을 이어서 저장한 뒤 결과를 완료한다.
+ * - 큐가 가득 차면 submit 은 자리가 날 때까지 대기한다. (back-pressure)
+ * - 저장이 끝난 잔액은 shard 스레드에서 조회용 뷰에 publish 하고, 저장이 실패하면 뷰에서 지운다.
+ * - 저장이 실패하면 잔액을 이전 값으로 다시 저장하고, 이미 저장된 이력은 반대 종류의 이력으로 상쇄한다. (ParallelPointWriter 와 같은 방식)
+ * - 결과는 shard 스레드에서 완료되므로, 이어지는 작업을 붙일 때는 *Async 메서드로 다른 executor 를 지정한다.
+ * - 종료(close) 이후 들어온 메시지는 처리되지 않고 결과를 RejectedExecutionException 으로 완료한다.
+ * 사용자별 잔액은 메모리에 계속 유지된다.
+ */
+public class ShardedPointExecutor implements AutoCloseable {
+
+	private static final int DRAIN_LIMIT = 256;
+	private static final long IDLE_POLL_MILLIS = 100L;
+
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointAggregator pointAggregator;
+	private final CommittedPointView committedPointView;
+	private final long maximumPoint;
+	private final Shard[] shards;
+
+	private volatile boolean running = true;
+
+	public ShardedPointExecutor(
+		UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository,
+		PointAggregator pointAggregator,
+		CommittedPointView committedPointView,
+		long maximumPoint,
+		int shardCount,
+		int queueCapacity
+	) {
+		if (shardCount <= 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException("shard 수와 큐 크기는 양수이어야 합니다.");
+		}
+		this.userPointRepository = userPointRepository;
+		this.pointHistoryRepository = pointHistoryRepository;
+		this.pointAggregator = pointAggregator;
+		this.committedPointView = committedPointView;
+		this.maximumPoint = maximumPoint;
+		this.shards = new Shard[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = new Shard(i, queueCapacity);
+		}
+	}
+
+	/**
+	 * 충전/사용 메시지를 사용자의 shard 에 넣는다. 같은 스레드가 넣은 같은 사용자의 메시지는 넣은 순서대로 처리된다.
+	 */
+	public CompletableFuture<UserPoint> submit(long id, long amount, TransactionType type) {
+		Operation operation = new Operation(id, amount, type);
+		shardOf(id).enqueue(operation, operation.result);
+		return operation.result;
+	}
+
+	/**
+	 * 앞서 들어온 메시지가 모두 저장된 뒤 사용자의 shard 스레드에서 task 를 실행한다. (shard 상태와 일관된 조회용)
+	 */
+	public <T> CompletableFuture<T> call(long id, Supplier<T> task) {
+		Task<T> message = new Task<>(task);
+		shardOf(id).enqueue(message, message.result);
+		return message.result;
+	}
+
+	public int shardCount() {
+		return shards.length;
+	}
+
+	public int queueDepth(int shard) {
+		return shards[shard].mailbox.size();
+	}
+
+	/**
+	 * 새 메시지를 받지 않고, 큐에 남은 메시지를 모두 처리한 뒤 종료한다.
+	 */
+	@Override
+	public void close() {
+		running = false;
+		for (Shard shard : shards) {
+			try {
+				shard.thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private Shard shardOf(long id) {
+		return shards[(int)((Long.hashCode(id * 0x9E3779B97F4A7C15L) & 0xFFFFFFFFL) % shards.length)];
+	}
+
+	private final class Shard {
+		private final BlockingQueue<Object> mailbox;
+		private final Map<Long, UserPoint> balances = new HashMap<>(); // shard 스레드만 접근한다.
+		private final Thread thread;
+
+		private Shard(int index, int queueCapacity) {
+			this.mailbox = new ArrayBlockingQueue<>(queueCapacity);
+			this.thread = new Thread(this::run, "point-shard-" + index);
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+
+		/**
+		 * shard 스레드는 running 이 false 이고 큐가 비었을 때만 끝나므로, 넣은 뒤 다시 확인한다.
+		 * 종료가 시작되었고 메시지가 아직 큐에 남아 있으면 스레드가 처리한다는 보장이 없으므로 직접 꺼내 실패시킨다.
+		 */
+		private void enqueue(Object message, CompletableFuture<?> result) {
+			if (!running) {
+				result.completeExceptionally(new RejectedExecutionException("포인트 shard 가 종료되었습니다."));
+				return;
+			}
+			try {
+				mailbox.put(message);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				result.completeExceptionally(new RejectedExecutionException("shard 큐 대기 중 인터럽트가 발생했습니다.", e));
+				return;
+			}
+			if (!running && mailbox.remove(message)) {
+				result.completeExceptionally(new RejectedExecutionException("포인트 shard 가 종료되었습니다."));
+			}
+		}
+
+		private void run() {
+			List<Object> batch = new ArrayList<>(DRAIN_LIMIT);
+			while (running || !mailbox.isEmpty()) {
+				try {
+					Object first = mailbox.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+					if (first == null) {
+						continue;
+					}
+					batch.add(first);
+					mailbox.drainTo(batch, DRAIN_LIMIT - 1);
+					process(batch);
+				} catch (InterruptedException e) {
+					// 종료 여부는 running 으로 판단하고, 남은 메시지는 계속 처리한다.
+				} finally {
+					batch.clear();
+				}
+			}
+		}
+
+		/**
+		 * 메시지를 순서대로 반영하고, 조회 task 를 만나면 그때까지 반영한 잔액/이력을 먼저 저장한다.
+		 */
+		private void process(List<Object> batch) {
+			Map<Long, UserWrite> writes = new LinkedHashMap<>();
+			for (Object message : batch) {
+				if (message instanceof Task<?> task) {
+					flush(writes);
+					task.run();
+					continue;
+				}
+				Operation operation = (Operation)message;
+				UserWrite write;
+				try {
+					write = writes.computeIfAbsent(operation.id, id -> new UserWrite(balanceOf(id)));
+				} catch (RuntimeException e) {
+					operation.result.completeExceptionally(e); // 잔액 조회 실패
+					continue;
+				}
+				UserPoint current = write.userPoint;
+				UserPoint next = operation.type == TransactionType.CHARGE
+					? current.charge(operation.amount)
+					: current.use(operation.amount);
+				try {
+					UserPoint.validate(operation.amount, current.point(), next.point(), operation.type, maximumPoint);
+				} catch (PointValidationException e) {
+					operation.result.completeExceptionally(e); // 거절된 요청은 잔액에 반영하지 않음
+					continue;
+				}
+				write.userPoint = next;
+				write.applied.add(operation);
+				write.histories.add(
+					new PointHistory(0, operation.id, operation.amount, operation.type, System.currentTimeMillis())
+				);
+				operation.applied = next;
+			}
+			flush(writes);
+		}
+
+		private void flush(Map<Long, UserWrite> writes) {
+			writes.forEach((id, write) -> {
+				if (write.applied.isEmpty()) {
+					return;
+				}
+				List<PointHistory> saved = new ArrayList<>(write.histories.size());
+				try {
+					userPointRepository.save(write.userPoint);
+					for (PointHistory history : write.histories) {
+						saved.add(pointHistoryRepository.save(history));
+					}
+				} catch (RuntimeException e) {
+					balances.remove(id); // 되돌리기도 실패할 수 있으므로 다음 요청 때 저장소에서 다시 읽는다.
+					committedPointView.invalidate(id);
+					pointAggregator.invalidate(id);
+					rollBack(write, saved, e);
+					write.applied.forEach(operation -> operation.result.completeExceptionally(e));
+					return;
+				}
+				balances.put(id, write.userPoint);
+				pointAggregator.record(id, write.histories);
+				committedPointView.publish(write.userPoint);
+				write.applied.forEach(operation -> operation.result.complete(operation.applied));
+			});
+			writes.clear();
+		}
+
+		/**
+		 * 잔액은 저장 결과를 알 수 없는 경우도 포함해 이전 값을 다시 저장하고, 저장된 이력만 상쇄한다.
+		 * 되돌리기까지 실패하면 그 예외는 원래 예외에 suppressed 로 붙는다.
+		 */
+		private void rollBack(UserWrite write, List<PointHistory> saved, RuntimeException failure) {
+			try {
+				userPointRepository.save(write.opening);
+				if (!saved.isEmpty()) {
+					pointHistoryRepository.saveAll(ParallelPointWriter.reversed(saved));
+				}
+			} catch (RuntimeException e) {
+				failure.addSuppressed(e);
+			}
+		}
+
+		private UserPoint balanceOf(long id) {
+			UserPoint userPoint = balances.get(id);
+			if (userPoint == null) {
+				userPoint = userPointRepository.selectById(id);
+				balances.put(id, userPoint);
+			}
+			return userPoint;
+		}
+	}
+
+	private static final class UserWrite {
+		private final UserPoint opening;
+		private final List<Operation> applied = new ArrayList<>();
+		private final List<PointHistory> histories = new ArrayList<>();
+		private UserPoint userPoint;
+
+		private UserWrite(UserPoint userPoint) {
+			this.opening = userPoint;
+			this.userPoint = userPoint;
+		}
+	}
+
+	private static final class Operation {
+		private final long id;
+		private final long amount;
+		private final TransactionType type;
+		private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+		private UserPoint applied;
+
+		private Operation(long id, long amount, TransactionType type) {
+			this.id = id;
+			this.amount = amount;
+			this.type = type;
+		}
+	}
+
+	private static final class Task<T> {
+		private final Supplier<T> supplier;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private Task(Supplier<T> supplier) {
+			this.supplier = supplier;
+		}
+
+		private void run() {
+			try {
+				result.complete(supplier.get());
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+	}
+}
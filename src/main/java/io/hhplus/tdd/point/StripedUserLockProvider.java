@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 고정 개수의 락을 사용자 ID 해시로 나누어 쓴다.
+ * 메모리 사용량이 사용자 수와 무관하게 일정한 대신, 같은 stripe 에 속한 다른 사용자끼리는 서로 기다릴 수 있다.
+ */
+public class StripedUserLockProvider extends AbstractUserLockProvider {
+
+	private final UserLock[] stripes;
+	private final int mask;
+
+	public StripedUserLockProvider(int stripes) {
+		this(stripes, PointMetrics.noop());
+	}
+
+	public StripedUserLockProvider(int stripes, PointMetrics pointMetrics) {
+		this(stripes, pointMetrics, UserLockPolicy.unbounded());
+	}
+
+	public StripedUserLockProvider(int stripes, PointMetrics pointMetrics, UserLockPolicy policy) {
+		super(pointMetrics, policy);
+		if (stripes <= 0) {
+			throw new IllegalArgumentException("stripe 개수는 양수이어야 합니다.");
+		}
+		int size = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+		this.stripes = new UserLock[size];
+		for (int i = 0; i < size; i++) {
+			this.stripes[i] = new UserLock(policy.fair());
+		}
+		this.mask = size - 1;
+	}
+
+	@Override
+	protected UserLock obtain(long userId) {
+		return stripes[indexOf(userId)];
+	}
+
+	@Override
+	protected void release(long userId, UserLock lock) {
+		// stripe 는 재사용되므로 정리할 것이 없다.
+	}
+
+	/**
+	 * 같은 stripe 의 사용자는 같은 락을 쓰므로 사용자 ID 가 아니라 stripe 번호 순서로 잡는다. (같은 stripe 이면 재진입)
+	 */
+	@Override
+	public long lockOrder(long userId) {
+		return indexOf(userId);
+	}
+
+	@Override
+	public int size() {
+		return stripes.length;
+	}
+
+	int indexOf(long userId) {
+		long hash = userId * 0x9E3779B97F4A7C15L; // 연속된 ID 가 인접 stripe 에 몰리지 않도록 섞는다.
+		return (int)(hash ^ (hash >>> 32)) & mask;
+	}
+}
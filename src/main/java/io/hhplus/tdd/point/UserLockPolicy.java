@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point;
+
+import java.time.Duration;
+
+/**
+ * 사용자 락 획득 정책
+ * - fair : 오래 기다린 순서대로 락을 얻는다. (끼어들기가 없는 대신 처리량이 줄어든다.)
+ * - timeout : 락을 기다리는 최대 시간. 0 이면 얻을 때까지 기다린다.
+ * - maxQueueLength : 한 락을 동시에 기다릴 수 있는 최대 요청 수. 0 이면 제한하지 않는다.
+ */
+public record UserLockPolicy(boolean fair, Duration timeout, int maxQueueLength) {
+
+	public UserLockPolicy {
+		if (timeout == null || timeout.isNegative() || maxQueueLength < 0) {
+			throw new IllegalArgumentException("락 대기 시간과 대기열 길이는 0 이상이어야 합니다.");
+		}
+	}
+
+	public static UserLockPolicy unbounded() {
+		return new UserLockPolicy(false, Duration.ZERO, 0);
+	}
+
+	public static UserLockPolicy of(PointProperties.Lock properties) {
+		return new UserLockPolicy(properties.isFair(), properties.getTimeout(), properties.getMaxQueueLength());
+	}
+
+	public boolean hasTimeout() {
+		return !timeout.isZero();
+	}
+
+	public boolean hasQueueLimit() {
+		return maxQueueLength > 0;
+	}
+}
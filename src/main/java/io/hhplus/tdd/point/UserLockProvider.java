@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+import java.util.function.Supplier;
+
+/**
+ * 사용자 단위 임계영역을 제공한다.
+ * 락의 생성/정리 방식은 구현체가 결정하므로 호출자는 락 객체를 직접 다루지 않는다.
+ */
+public interface UserLockProvider {
+
+	/**
+	 * 락 획득 정책에 따라 기다리지 않고 거절하면 UserLockRejectedException 이 발생하고 action 은 실행되지 않는다.
+	 */
+	<T> T withLock(long userId, Supplier<T> action);
+
+	/**
+	 * 두 사용자의 락을 모두 잡고 action 을 실행한다.
+	 * 항상 lockOrder 가 작은 락부터 잡으므로, 반대 방향으로 동시에 호출되어도 교착 상태가 생기지 않는다.
+	 */
+	default <T> T withLocks(long firstUserId, long secondUserId, Supplier<T> action) {
+		boolean inOrder = lockOrder(firstUserId) <= lockOrder(secondUserId);
+		long outer = inOrder ? firstUserId : secondUserId;
+		long inner = inOrder ? secondUserId : firstUserId;
+		return withLock(outer, () -> withLock(inner, action));
+	}
+
+	/**
+	 * 여러 락을 잡을 때의 순서. 서로 다른 사용자가 같은 락을 쓰는 구현은 락 기준의 순서를 반환해야 한다.
+	 */
+	default long lockOrder(long userId) {
+		return userId;
+	}
+
+	int size(); // 현재 메모리에 유지 중인 락 개수
+
+	static UserLockProvider create(PointProperties.Lock properties) {
+		return create(properties, PointMetrics.noop());
+	}
+
+	static UserLockProvider create(PointProperties.Lock properties, PointMetrics pointMetrics) {
+		UserLockPolicy policy = UserLockPolicy.of(properties);
+		return switch (properties.getStrategy()) {
+			case REFERENCE_COUNTED -> new ReferenceCountedUserLockProvider(pointMetrics, policy);
+			case STRIPED -> new StripedUserLockProvider(properties.getStripes(), pointMetrics, policy);
+		};
+	}
+}
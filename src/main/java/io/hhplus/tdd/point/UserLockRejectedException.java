@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+import lombok.Getter;
+
+/**
+ * 사용자 락 획득 정책에 따라 락을 기다리지 않고 거절한 요청. 요청은 반영되지 않았으므로 다시 시도할 수 있다.
+ */
+@Getter
+public class UserLockRejectedException extends RuntimeException {
+
+	private final Reason reason;
+
+	public UserLockRejectedException(Reason reason, String message) {
+		super(message);
+		this.reason = reason;
+	}
+
+	/**
+	 * - QUEUE_FULL : 같은 사용자의 락을 기다리는 요청이 최대 대기열 길이에 도달 (429)
+	 * - TIMEOUT : 제한 시간 안에 락을 얻지 못함 (503)
+	 */
+	public enum Reason {
+		QUEUE_FULL, TIMEOUT
+	}
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용자별 락 관리 방식
+ * - REFERENCE_COUNTED : 사용자별 락을 만들고, 잡고 있거나 기다리는 스레드가 없으면 제거
+ * - STRIPED : 고정 개수(2의 거듭제곱)의 락을 사용자 ID 해시로 나누어 사용
+ */
+public enum UserLockStrategy {
+	REFERENCE_COUNTED, STRIPED
+}
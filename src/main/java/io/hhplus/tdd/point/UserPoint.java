@@ -19,15 +19,21 @@ public record UserPoint(
 	) {
 
 		if (amount <= 0) {
-			throw new IllegalArgumentException("값이 양수이어야 합니다.");
+			throw new PointValidationException(
+				PointValidationException.Reason.NON_POSITIVE_AMOUNT, "값이 양수이어야 합니다."
+			);
 		}
 
 		if (transactionType == TransactionType.CHARGE && newPoint > maximumPoint) {
-			throw new IllegalArgumentException("충전 후 포인트가 최대 허용 값을 초과했습니다.");
+			throw new PointValidationException(
+				PointValidationException.Reason.EXCEEDS_MAXIMUM, "충전 후 포인트가 최대 허용 값을 초과했습니다."
+			);
 		}
 
 		if (transactionType == TransactionType.USE && prevPoint < amount) {
-			throw new IllegalArgumentException("사용 가능한 포인트가 부족합니다.");
+			throw new PointValidationException(
+				PointValidationException.Reason.INSUFFICIENT_POINT, "사용 가능한 포인트가 부족합니다."
+			);
 		}
 	}
 
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * write-ahead log 를 디스크에 동기화(fsync)하는 시점
+ * - PER_OP : 레코드마다 동기화한 뒤 반환 (가장 안전하고 가장 느림)
+ * - GROUP_COMMIT : 백그라운드에서 그동안 기록된 레코드를 한 번에 동기화하고, 호출자는 자신의 레코드가 동기화될 때까지 대기
+ * - OS : 동기화하지 않고 운영체제의 페이지 캐시 기록에 맡김 (프로세스 종료에는 안전, 전원 장애 시 유실 가능)
+ */
+public enum WalFsyncPolicy {
+	PER_OP, GROUP_COMMIT, OS
+}
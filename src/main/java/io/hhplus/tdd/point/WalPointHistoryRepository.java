@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 포인트 이력을 write-ahead log 에 기록한 뒤 사용자별 목록에 추가하는 PointHistoryRepository.
+ * - 스냅샷이 없으면 생성 시 로그 전체를 재생해 이력과 마지막 id 를 복구한다.
+ * - 스냅샷이 있으면 스냅샷 이후의 로그만 바로 재생하고(마지막 id = 스냅샷의 lastHistoryId 와 비교), 그 이전 이력은 백그라운드에서 읽는다.
+ *   저장은 바로 가능하며, 조회는 이전 이력을 모두 읽을 때까지 대기한다.
+ */
+public class WalPointHistoryRepository implements PointHistoryRepository {
+
+	private static final Logger log = LoggerFactory.getLogger(WalPointHistoryRepository.class);
+	static final byte RECORD_TYPE = 2;
+	private static final int PAYLOAD_SIZE = Long.BYTES * 4 + 1; // id, userId, amount, type, updateMillis
+	private static final TransactionType[] TYPES = TransactionType.values();
+
+	private final ConcurrentHashMap<Long, Queue<PointHistory>> histories = new ConcurrentHashMap<>();
+	private final CompletableFuture<Map<Long, List<PointHistory>>> restored; // 스냅샷 이전 이력 (복구 후 변경 없음)
+	private final AtomicLong cursor = new AtomicLong();
+	private final WriteAheadLog writeAheadLog;
+
+	public WalPointHistoryRepository(WriteAheadLog writeAheadLog) {
+		this(writeAheadLog, null);
+	}
+
+	public WalPointHistoryRepository(WriteAheadLog writeAheadLog, PointSnapshot snapshot) {
+		this.writeAheadLog = writeAheadLog;
+		long fromPosition = snapshot == null ? 0 : snapshot.walPosition();
+		if (snapshot != null) {
+			cursor.set(snapshot.lastHistoryId());
+		}
+		writeAheadLog.replay(fromPosition, (type, payload) -> {
+			if (type == RECORD_TYPE) {
+				PointHistory pointHistory = read(payload);
+				add(pointHistory);
+				cursor.accumulateAndGet(pointHistory.id(), Math::max);
+			}
+		});
+
+		if (fromPosition == 0) {
+			this.restored = CompletableFuture.completedFuture(Map.of());
+			return;
+		}
+		this.restored = new CompletableFuture<>();
+		Thread restorer = new Thread(() -> restore(fromPosition), "point-history-restorer");
+		restorer.setDaemon(true);
+		restorer.start();
+	}
+
+	@Override
+	public PointHistory save(PointHistory pointHistory) {
+		PointHistory saved = new PointHistory(
+			cursor.incrementAndGet(),
+			pointHistory.userId(),
+			pointHistory.amount(),
+			pointHistory.type(),
+			pointHistory.updateMillis()
+		);
+		writeAheadLog.append(RECORD_TYPE, PAYLOAD_SIZE, buffer -> write(buffer, saved));
+		add(saved);
+		return saved;
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		List<PointHistory> older = restored.join().getOrDefault(userId, List.of());
+		Queue<PointHistory> recent = histories.get(userId);
+		if (recent == null) {
+			return Collections.unmodifiableList(older);
+		}
+		if (older.isEmpty()) {
+			return List.copyOf(recent);
+		}
+		List<PointHistory> merged = new ArrayList<>(older.size() + recent.size());
+		merged.addAll(older);
+		merged.addAll(recent);
+		return merged;
+	}
+
+	/**
+	 * 스냅샷 이전 이력을 모두 읽을 때까지 대기한 뒤, 사용자별로 이전 이력과 이후 이력을 이어서 전달한다.
+	 */
+	@Override
+	public void forEachHistory(Consumer<PointHistory> action) {
+		Map<Long, List<PointHistory>> older = restored.join();
+		older.forEach((userId, userHistories) -> {
+			userHistories.forEach(action);
+			Queue<PointHistory> recent = histories.get(userId);
+			if (recent != null) {
+				recent.forEach(action);
+			}
+		});
+		histories.forEach((userId, recent) -> {
+			if (!older.containsKey(userId)) {
+				recent.forEach(action);
+			}
+		});
+	}
+
+	/**
+	 * 지금까지 발급한 마지막 이력 id
+	 */
+	public long lastHistoryId() {
+		return cursor.get();
+	}
+
+	/**
+	 * 스냅샷 이전 이력을 모두 읽었는지 여부
+	 */
+	public boolean isRestored() {
+		return restored.isDone();
+	}
+
+	private void restore(long toPosition) {
+		long start = System.nanoTime();
+		try {
+			Map<Long, List<PointHistory>> older = new HashMap<>();
+			writeAheadLog.replay(0, toPosition, (type, payload) -> {
+				if (type == RECORD_TYPE) {
+					PointHistory pointHistory = read(payload);
+					older.computeIfAbsent(pointHistory.userId(), key -> new ArrayList<>()).add(pointHistory);
+				}
+			});
+			restored.complete(older);
+			log.info("스냅샷 이전 이력 {}명분을 복구했습니다. ({} ms)", older.size(), (System.nanoTime() - start) / 1_000_000);
+		} catch (RuntimeException e) {
+			log.error("스냅샷 이전 이력을 복구하지 못했습니다.", e);
+			restored.completeExceptionally(e);
+		}
+	}
+
+	private void add(PointHistory pointHistory) {
+		histories.computeIfAbsent(pointHistory.userId(), key -> new ConcurrentLinkedQueue<>()).add(pointHistory);
+	}
+
+	static void write(ByteBuffer buffer, PointHistory pointHistory) {
+		buffer.putLong(pointHistory.id())
+			.putLong(pointHistory.userId())
+			.putLong(pointHistory.amount())
+			.put((byte)pointHistory.type().ordinal())
+			.putLong(pointHistory.updateMillis());
+	}
+
+	static PointHistory read(ByteBuffer payload) {
+		return new PointHistory(
+			payload.getLong(),
+			payload.getLong(),
+			payload.getLong(),
+			TYPES[payload.get()],
+			payload.getLong()
+		);
+	}
+}
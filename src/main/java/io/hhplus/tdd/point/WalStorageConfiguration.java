@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * point.storage.type=wal 일 때 write-ahead log, 스냅샷과 이를 사용하는 저장소를 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.storage", name = "type", havingValue = "wal")
+public class WalStorageConfiguration {
+
+	@Bean(destroyMethod = "close")
+	public WriteAheadLog writeAheadLog(PointProperties pointProperties) {
+		PointProperties.Storage.Wal wal = pointProperties.getStorage().getWal();
+		return new WriteAheadLog(
+			Path.of(wal.getDirectory()),
+			(int)wal.getSegmentSize().toBytes(),
+			wal.getFsync(),
+			wal.getGroupCommitInterval()
+		);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "point.storage.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+	public PointSnapshotStore pointSnapshotStore(PointProperties pointProperties) {
+		PointProperties.Storage.Snapshot snapshot = pointProperties.getStorage().getSnapshot();
+		return new PointSnapshotStore(Path.of(snapshot.getDirectory()), snapshot.getRetain());
+	}
+
+	@Bean
+	public WalUserPointRepository walUserPointRepository(
+		WriteAheadLog writeAheadLog,
+		ObjectProvider<PointSnapshotStore> pointSnapshotStore
+	) {
+		return new WalUserPointRepository(writeAheadLog, pointSnapshotStore.getIfAvailable());
+	}
+
+	/**
+	 * 잔액 저장소가 실제로 읽은 스냅샷을 기준으로 복구한다. (최신 스냅샷이 손상되어 이전 스냅샷을 읽었을 수 있다.)
+	 */
+	@Bean
+	public WalPointHistoryRepository walPointHistoryRepository(
+		WriteAheadLog writeAheadLog,
+		WalUserPointRepository walUserPointRepository
+	) {
+		return new WalPointHistoryRepository(writeAheadLog, walUserPointRepository.restoredSnapshot());
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "point.storage.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+	public PointSnapshotScheduler pointSnapshotScheduler(
+		WalUserPointRepository walUserPointRepository,
+		WalPointHistoryRepository walPointHistoryRepository,
+		PointSnapshotStore pointSnapshotStore,
+		WriteAheadLog writeAheadLog,
+		PointProperties pointProperties
+	) {
+		return new PointSnapshotScheduler(
+			walUserPointRepository,
+			walPointHistoryRepository,
+			pointSnapshotStore,
+			writeAheadLog,
+			pointProperties.getStorage().getSnapshot().getInterval()
+		);
+	}
+}
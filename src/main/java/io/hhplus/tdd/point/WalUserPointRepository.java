@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 잔액 변경을 write-ahead log 에 기록하고 메모리에서 조회하는 UserPointRepository.
+ * - 생성 시 가장 최근의 온전한 스냅샷을 읽고 그 이후의 로그만 재생한다. (스냅샷이 없으면 로그 전체를 재생)
+ * - 메모리 반영은 로그 기록 직후 로그의 append 락 안에서 하므로, 로그 위치 P 를 읽은 뒤의 메모리에는 P 까지의 잔액이 모두 반영되어 있다.
+ */
+public class WalUserPointRepository implements UserPointRepository {
+
+	private static final Logger log = LoggerFactory.getLogger(WalUserPointRepository.class);
+	static final byte RECORD_TYPE = 1;
+	private static final int PAYLOAD_SIZE = Long.BYTES * 3; // id, point, updateMillis
+
+	private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+	private final WriteAheadLog writeAheadLog;
+	private final PointSnapshot restoredSnapshot;
+
+	public WalUserPointRepository(WriteAheadLog writeAheadLog) {
+		this(writeAheadLog, null);
+	}
+
+	public WalUserPointRepository(WriteAheadLog writeAheadLog, PointSnapshotStore snapshotStore) {
+		this.writeAheadLog = writeAheadLog;
+		long start = System.nanoTime();
+		PointSnapshot snapshot = snapshotStore == null ? null : restore(snapshotStore);
+		this.restoredSnapshot = snapshot;
+		long fromPosition = snapshot == null ? 0 : snapshot.walPosition();
+		writeAheadLog.replay(fromPosition, (type, payload) -> {
+			if (type == RECORD_TYPE) {
+				UserPoint userPoint = read(payload);
+				table.put(userPoint.id(), userPoint);
+			}
+		});
+		log.info("잔액 {}건을 복구했습니다. (스냅샷 {}, 로그 {} 부터 재생, {} ms)",
+			table.size(), snapshot == null ? "없음" : snapshot.path(), fromPosition, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@Override
+	public UserPoint save(UserPoint userPoint) {
+		UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis());
+		writeAheadLog.append(RECORD_TYPE, PAYLOAD_SIZE, buffer -> write(buffer, saved), () -> table.put(saved.id(), saved));
+		return saved;
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		UserPoint userPoint = table.get(id);
+		return userPoint != null ? userPoint : UserPoint.empty(id);
+	}
+
+	/**
+	 * 생성 시 읽은 스냅샷 (없거나 모두 손상되었으면 null). 이력 저장소도 같은 스냅샷 위치부터 복구해야 한다.
+	 */
+	public PointSnapshot restoredSnapshot() {
+		return restoredSnapshot;
+	}
+
+	/**
+	 * 현재 로그 위치를 먼저 읽고 잔액을 순회한다.
+	 * 순회 중 바뀐 잔액이 섞일 수 있지만, 잔액 레코드는 최종 값을 담고 있으므로 그 위치부터 다시 재생하면 같은 상태가 된다.
+	 */
+	public PointSnapshot snapshot(PointSnapshotStore snapshotStore, LongSupplier lastHistoryId) {
+		long walPosition = writeAheadLog.position();
+		return snapshotStore.write(walPosition, lastHistoryId.getAsLong(), table.values());
+	}
+
+	/**
+	 * 최신 스냅샷부터 읽고, 손상된 스냅샷은 건너뛴다.
+	 */
+	private PointSnapshot restore(PointSnapshotStore snapshotStore) {
+		for (PointSnapshot snapshot : snapshotStore.snapshots()) {
+			try {
+				snapshotStore.load(snapshot, userPoint -> table.put(userPoint.id(), userPoint));
+				return snapshot;
+			} catch (RuntimeException e) {
+				log.warn("스냅샷을 읽지 못해 이전 스냅샷을 사용합니다. {}", snapshot.path(), e);
+				table.clear();
+			}
+		}
+		return null;
+	}
+
+	static void write(ByteBuffer buffer, UserPoint userPoint) {
+		buffer.putLong(userPoint.id())
+			.putLong(userPoint.point())
+			.putLong(userPoint.updateMillis());
+	}
+
+	static UserPoint read(ByteBuffer payload) {
+		return new UserPoint(payload.getLong(), payload.getLong(), payload.getLong());
+	}
+}
@@ -0,0 +1,468 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 포인트 변경을 순서대로 기록하는 append-only write-ahead log.
+ * - 고정 크기 세그먼트 파일을 메모리 매핑해 이어서 기록하고, 세그먼트가 차면 다음 세그먼트를 만든다.
+ * - 레코드 : [길이(4) | CRC32C(4) | 타입(1) | 본문]. 길이(타입 + 본문 바이트 수)는 본문과 CRC 를 모두 쓴 뒤 마지막에 기록한다.
+ * - 위치(position)는 세그먼트를 이어 붙인 전체 로그에서 레코드가 끝나는 바이트 오프셋이며, 세그먼트 파일명은 그 세그먼트의 시작 위치이다.
+ * - 열 때는 마지막 세그먼트만 검사해, 길이가 0 이거나 CRC 가 맞지 않는 첫 레코드부터는 기록 중 중단된 꼬리로 보고 지운다.
+ *   이전 세그먼트의 CRC 는 재생할 때 확인한다.
+ */
+public class WriteAheadLog implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+	private static final int HEADER_SIZE = Integer.BYTES * 2;
+	private static final String SEGMENT_SUFFIX = ".wal";
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final Path directory;
+	private final int segmentSize;
+	private final WalFsyncPolicy fsyncPolicy;
+
+	// 세그먼트 목록, 활성 세그먼트의 버퍼 위치, crc 는 appendLock 안에서만 변경한다.
+	private final ReentrantLock appendLock = new ReentrantLock();
+	private final List<Segment> segments = new ArrayList<>();
+	private final CRC32C crc = new CRC32C();
+	private volatile Segment active;
+	private volatile long writtenPosition;
+
+	// GROUP_COMMIT : 동기화가 끝난 위치와 그 위치를 기다리는 호출자
+	private final ReentrantLock durableLock = new ReentrantLock();
+	private final Condition durableCondition = durableLock.newCondition();
+	private volatile long durablePosition;
+	private final Thread committer;
+	private volatile boolean running = true;
+
+	public WriteAheadLog(Path directory, int segmentSize, WalFsyncPolicy fsyncPolicy, Duration groupCommitInterval) {
+		if (segmentSize <= HEADER_SIZE) {
+			throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다.");
+		}
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.fsyncPolicy = fsyncPolicy;
+		try {
+			Files.createDirectories(directory);
+			recover();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		this.writtenPosition = active.end();
+		this.durablePosition = writtenPosition;
+
+		if (fsyncPolicy == WalFsyncPolicy.GROUP_COMMIT) {
+			long intervalNanos = groupCommitInterval.toNanos();
+			this.committer = new Thread(() -> runCommitter(intervalNanos), "point-wal-committer");
+			this.committer.setDaemon(true);
+			this.committer.start();
+		} else {
+			this.committer = null;
+		}
+	}
+
+	/**
+	 * 레코드를 기록하고 레코드가 끝나는 위치를 반환한다.
+	 * writer 는 본문을 정확히 length 바이트만큼 버퍼에 써야 한다. (appendLock 안에서 호출된다)
+	 */
+	public long append(byte type, int length, Consumer<ByteBuffer> writer) {
+		return append(type, length, writer, null);
+	}
+
+	/**
+	 * onWritten 은 레코드 기록(PER_OP 이면 동기화까지)이 끝난 뒤 appendLock 안에서 실행된다.
+	 * 메모리 상태를 로그와 같은 순서로 반영해야 할 때 사용하며, position() 이전의 레코드는 모두 onWritten 까지 끝난 상태이다.
+	 */
+	public long append(byte type, int length, Consumer<ByteBuffer> writer, Runnable onWritten) {
+		int recordSize = HEADER_SIZE + 1 + length;
+		if (recordSize > segmentSize) {
+			throw new IllegalArgumentException("레코드가 세그먼트 크기보다 큽니다.");
+		}
+
+		long end;
+		appendLock.lock();
+		try {
+			if (!running) {
+				throw new IllegalStateException("write-ahead log 가 종료되었습니다.");
+			}
+			if (active.limit + recordSize > active.capacity()) {
+				roll();
+			}
+			Segment segment = active;
+			MappedByteBuffer buffer = segment.buffer;
+			int offset = segment.limit;
+			try {
+				buffer.limit(offset + recordSize).position(offset + HEADER_SIZE);
+				buffer.put(type);
+				writer.accept(buffer);
+				if (buffer.position() != offset + recordSize) {
+					throw new IllegalStateException("레코드 본문의 길이가 맞지 않습니다.");
+				}
+				buffer.position(offset + HEADER_SIZE);
+				crc.reset();
+				crc.update(buffer);
+			} finally {
+				buffer.clear();
+			}
+			buffer.putInt(offset + Integer.BYTES, (int)crc.getValue());
+			buffer.putInt(offset, 1 + length);
+			segment.limit = offset + recordSize;
+
+			if (fsyncPolicy == WalFsyncPolicy.PER_OP) {
+				buffer.force(offset, recordSize);
+			}
+			if (onWritten != null) {
+				onWritten.run();
+			}
+			end = segment.end();
+			writtenPosition = end;
+		} finally {
+			appendLock.unlock();
+		}
+
+		if (fsyncPolicy == WalFsyncPolicy.GROUP_COMMIT) {
+			awaitDurable(end);
+		}
+		return end;
+	}
+
+	/**
+	 * fromPosition 이후에 끝나는 레코드를 호출 시점까지 기록된 순서대로 handler 에 전달한다.
+	 */
+	public void replay(long fromPosition, RecordHandler handler) {
+		replay(fromPosition, Long.MAX_VALUE, handler);
+	}
+
+	/**
+	 * fromPosition 초과 toPosition 이하에서 끝나는 레코드를 기록된 순서대로 handler 에 전달한다.
+	 * 본문 버퍼는 handler 호출 동안만 유효하며, CRC 가 맞지 않는 레코드를 만나면 IllegalStateException 이 발생한다.
+	 */
+	public void replay(long fromPosition, long toPosition, RecordHandler handler) {
+		List<Segment> snapshot;
+		long end;
+		appendLock.lock();
+		try {
+			snapshot = List.copyOf(segments);
+			end = Math.min(writtenPosition, toPosition);
+		} finally {
+			appendLock.unlock();
+		}
+
+		CRC32C checksum = new CRC32C();
+		for (Segment segment : snapshot) {
+			if (segment.base >= end) {
+				break;
+			}
+			boolean last = segment == snapshot.get(snapshot.size() - 1);
+			int limit = (int)Math.min(last ? end - segment.base : segment.limit, end - segment.base);
+			if (segment.base + limit <= fromPosition) {
+				continue;
+			}
+			ByteBuffer view = segment.buffer.duplicate();
+			int offset = 0;
+			while (offset < limit) {
+				int length = view.getInt(offset);
+				int next = offset + HEADER_SIZE + length;
+				if (segment.base + next > fromPosition) {
+					view.limit(next).position(offset + HEADER_SIZE);
+					checksum.reset();
+					checksum.update(view);
+					if ((int)checksum.getValue() != view.getInt(offset + Integer.BYTES)) {
+						throw new IllegalStateException("write-ahead log 레코드가 손상되었습니다. (position " + (segment.base + offset) + ")");
+					}
+					view.position(offset + HEADER_SIZE + 1);
+					handler.handle(view.get(offset + HEADER_SIZE), view);
+					view.clear();
+				}
+				offset = next;
+			}
+		}
+	}
+
+	/**
+	 * 마지막으로 기록된 레코드가 끝나는 위치
+	 */
+	public long position() {
+		return writtenPosition;
+	}
+
+	public int segmentCount() {
+		appendLock.lock();
+		try {
+			return segments.size();
+		} finally {
+			appendLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		appendLock.lock();
+		try {
+			if (!running) {
+				return;
+			}
+			running = false;
+			active.buffer.force();
+			for (Segment segment : segments) {
+				segment.close();
+			}
+		} finally {
+			appendLock.unlock();
+		}
+		if (committer != null) {
+			committer.interrupt();
+			try {
+				committer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		markDurable(writtenPosition);
+	}
+
+	/**
+	 * 세그먼트 파일을 시작 위치 순서대로 열고 마지막 세그먼트의 유효한 끝을 찾는다.
+	 */
+	private void recover() throws IOException {
+		List<Path> files;
+		try (Stream<Path> list = Files.list(directory)) {
+			files = list.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+				.sorted()
+				.toList();
+		}
+		for (Path file : files) {
+			if (Files.size(file) == 0) {
+				Files.delete(file); // 파일만 만들어지고 매핑되기 전에 중단된 세그먼트
+			}
+		}
+		files = files.stream().filter(Files::exists).toList();
+
+		for (int i = 0; i < files.size(); i++) {
+			Path file = files.get(i);
+			Segment segment = Segment.open(file, baseOf(file), 0);
+			if (i < files.size() - 1) {
+				// 이전 세그먼트는 다음 세그먼트의 시작 위치에서 끝난다. (레코드 CRC 는 재생할 때 확인)
+				long limit = baseOf(files.get(i + 1)) - segment.base;
+				if (limit < 0 || limit > segment.capacity()) {
+					throw new IllegalStateException("write-ahead log 세그먼트가 이어지지 않습니다. " + file);
+				}
+				segment.limit = (int)limit;
+			} else {
+				segment.limit = scan(segment);
+				if (segment.limit + Integer.BYTES <= segment.capacity() && segment.buffer.getInt(segment.limit) != 0) {
+					log.warn("write-ahead log 의 마지막 레코드가 온전하지 않아 버립니다. {} (offset {})", file, segment.limit);
+				}
+				truncate(segment);
+			}
+			segments.add(segment);
+		}
+
+		if (segments.isEmpty()) {
+			segments.add(Segment.open(segmentPath(0), 0, segmentSize));
+		}
+		active = segments.get(segments.size() - 1);
+	}
+
+	private long baseOf(Path file) {
+		String name = file.getFileName().toString();
+		return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	private int scan(Segment segment) {
+		ByteBuffer view = segment.buffer.duplicate();
+		CRC32C checksum = new CRC32C();
+		int offset = 0;
+		while (offset + HEADER_SIZE <= segment.capacity()) {
+			int length = view.getInt(offset);
+			if (length <= 0 || offset + HEADER_SIZE + length > segment.capacity()) {
+				break;
+			}
+			view.limit(offset + HEADER_SIZE + length).position(offset + HEADER_SIZE);
+			checksum.reset();
+			checksum.update(view);
+			view.clear();
+			if ((int)checksum.getValue() != view.getInt(offset + Integer.BYTES)) {
+				break;
+			}
+			offset += HEADER_SIZE + length;
+		}
+		return offset;
+	}
+
+	/**
+	 * 유효한 끝 이후를 0 으로 지워, 이후에 기록할 레코드 뒤에 이전 내용이 남지 않게 한다.
+	 */
+	private void truncate(Segment segment) {
+		MappedByteBuffer buffer = segment.buffer;
+		for (int offset = segment.limit; offset < segment.capacity(); offset++) {
+			if (buffer.get(offset) != 0) {
+				buffer.put(offset, (byte)0);
+			}
+		}
+		buffer.force();
+	}
+
+	/**
+	 * appendLock 안에서 호출된다. 기록이 끝난 세그먼트를 동기화한 뒤 다음 세그먼트를 만든다.
+	 */
+	private void roll() {
+		if (fsyncPolicy != WalFsyncPolicy.OS) {
+			active.buffer.force();
+		}
+		long base = active.end();
+		try {
+			Segment segment = Segment.open(segmentPath(base), base, segmentSize);
+			if (fsyncPolicy != WalFsyncPolicy.OS) {
+				syncDirectory();
+			}
+			segments.add(segment);
+			active = segment;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void syncDirectory() {
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			log.debug("디렉터리 동기화를 지원하지 않는 환경입니다. {}", directory); // 예) Windows
+		}
+	}
+
+	private Path segmentPath(long base) {
+		return directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+	}
+
+	private void awaitDurable(long position) {
+		if (durablePosition >= position) {
+			return;
+		}
+		LockSupport.unpark(committer);
+		durableLock.lock();
+		try {
+			while (durablePosition < position) {
+				if (!running) {
+					throw new IllegalStateException("write-ahead log 가 종료되었습니다.");
+				}
+				durableCondition.await();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("write-ahead log 동기화 대기 중 인터럽트가 발생했습니다.", e);
+		} finally {
+			durableLock.unlock();
+		}
+	}
+
+	/**
+	 * 동기화를 기다리는 레코드가 생기면 바로 동기화하되, 직전 동기화로부터 intervalNanos 가 지나기 전이면 그때까지 기다린다.
+	 * 동기화하는 동안 기록된 레코드는 다음 동기화에 함께 묶인다.
+	 */
+	private void runCommitter(long intervalNanos) {
+		long lastSync = System.nanoTime();
+		while (running) {
+			if (writtenPosition <= durablePosition) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS); // 기록한 스레드가 깨운다.
+				continue;
+			}
+			long wait = lastSync + intervalNanos - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(this, wait);
+				continue;
+			}
+			long target = writtenPosition;
+			Segment segment = active; // target 을 읽은 뒤 roll 되었다면 target 까지는 roll 할 때 동기화되었다.
+			int from = (int)Math.max(0, durablePosition - segment.base);
+			int to = (int)(target - segment.base);
+			try {
+				if (to > from) {
+					segment.buffer.force(from, to - from); // 새로 기록된 범위만 동기화
+				}
+				lastSync = System.nanoTime();
+				markDurable(target);
+			} catch (RuntimeException e) {
+				log.error("write-ahead log 동기화에 실패했습니다.", e);
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+			}
+		}
+	}
+
+	private void markDurable(long position) {
+		durableLock.lock();
+		try {
+			if (position > durablePosition) {
+				durablePosition = position;
+			}
+			durableCondition.signalAll();
+		} finally {
+			durableLock.unlock();
+		}
+	}
+
+	@FunctionalInterface
+	public interface RecordHandler {
+		void handle(byte type, ByteBuffer payload);
+	}
+
+	private static class Segment {
+		private final long base;
+		private final FileChannel channel;
+		private final MappedByteBuffer buffer;
+		private int limit; // 유효한 레코드가 끝나는 offset
+
+		private Segment(long base, FileChannel channel, MappedByteBuffer buffer) {
+			this.base = base;
+			this.channel = channel;
+			this.buffer = buffer;
+		}
+
+		/**
+		 * size 가 0 이면 기존 파일 크기만큼 매핑한다.
+		 */
+		private static Segment open(Path path, long base, int size) throws IOException {
+			FileChannel channel = FileChannel.open(
+				path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+			);
+			long mappedSize = size == 0 ? channel.size() : size;
+			return new Segment(base, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+		}
+
+		private int capacity() {
+			return buffer.capacity();
+		}
+
+		private long end() {
+			return base + limit;
+		}
+
+		private void close() {
+			try {
+				channel.close(); // 매핑은 버퍼가 수거될 때 해제된다.
+			} catch (IOException e) {
+				log.warn("세그먼트 파일을 닫지 못했습니다.", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,277 @@
+package io.hhplus.tdd.point;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 포인트 이력을 바로 테이블에 쓰지 않고 bounded 큐에 넣은 뒤, 백그라운드 writer 가 순서대로 저장한다.
+ * - 큐는 FIFO 이므로 같은 사용자의 이력은 save 호출 순서대로 저장된다.
+ * - 큐가 가득 차면 save 는 자리가 날 때까지 대기한다. (back-pressure)
+ * - id 는 큐에 넣을 때 발급한다. 이 저장소만 delegate 에 쓰고 큐 순서대로 저장하므로, delegate 가 순서대로 발급하는 id 와 같다.
+ * - 조회 시 아직 저장되지 않은 이력을 저장된 이력 뒤에 붙여서 반환한다. (read-your-writes)
+ *   미저장 목록은 delegate 에 저장한 뒤에 지우므로, 조회는 delegate 에서 본 마지막 id 이하의 미저장 이력을 건너뛴다.
+ * - 저장에 실패한 이력은 버리지 않고 간격을 늘려가며 다시 저장한다. 그동안 뒤의 이력은 기다리고, 큐가 차면 save 가 대기한다.
+ * - close 시 큐에 남은 이력을 모두 저장한 뒤 종료한다. 종료 중에도 저장이 계속 실패하면 미저장 이력으로 남기고 오류를 남긴다.
+ */
+public class WriteBehindPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(WriteBehindPointHistoryRepository.class);
+	private static final long IDLE_POLL_MILLIS = 100L;
+	private static final long INITIAL_RETRY_MILLIS = 10L;
+	private static final long MAXIMUM_RETRY_MILLIS = 1_000L;
+	private static final int CLOSING_RETRY_LIMIT = 3; // 종료 중 이력 한 건당 저장 시도 횟수
+
+	private final PointHistoryRepository delegate;
+	private final BlockingQueue<PointHistory> queue;
+	private final int batchSize;
+	private final long flushIntervalNanos;
+
+	// 사용자별 미저장 이력. delegate 에 저장한 뒤에 지운다.
+	private final ConcurrentHashMap<Long, Deque<PointHistory>> pendingByUser = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final ReentrantLock enqueueLock = new ReentrantLock(); // id 발급 순서와 큐 순서를 맞추고, 종료 이후 큐에 넣지 않도록 한다.
+	private long lastHistoryId; // enqueueLock 안에서만 읽고 쓴다.
+
+	private final Thread writer;
+	private volatile boolean running = true; // enqueueLock 안에서만 바꾼다.
+
+	public WriteBehindPointHistoryRepository(
+		PointHistoryRepository delegate,
+		int capacity,
+		int batchSize,
+		Duration flushInterval
+	) {
+		this(delegate, capacity, batchSize, flushInterval, 0L);
+	}
+
+	/**
+	 * lastHistoryId : delegate 가 마지막으로 발급한 이력 id (비어 있으면 0)
+	 */
+	public WriteBehindPointHistoryRepository(
+		PointHistoryRepository delegate,
+		int capacity,
+		int batchSize,
+		Duration flushInterval,
+		long lastHistoryId
+	) {
+		if (capacity <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException("큐 크기와 배치 크기는 양수이어야 합니다.");
+		}
+		this.delegate = delegate;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.flushIntervalNanos = flushInterval.toNanos();
+		this.lastHistoryId = lastHistoryId;
+		this.writer = new Thread(this::runWriter, "point-history-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	@Override
+	public PointHistory save(PointHistory pointHistory) {
+		enqueueLock.lock();
+		try {
+			if (!running) {
+				throw new IllegalStateException("이력 저장소가 종료되었습니다.");
+			}
+			PointHistory pending = new PointHistory(
+				lastHistoryId + 1,
+				pointHistory.userId(),
+				pointHistory.amount(),
+				pointHistory.type(),
+				pointHistory.updateMillis()
+			);
+			pendingByUser.compute(pending.userId(), (key, deque) -> {
+				Deque<PointHistory> histories = deque == null ? new ConcurrentLinkedDeque<>() : deque;
+				histories.addLast(pending);
+				return histories;
+			});
+			pendingCount.incrementAndGet();
+			try {
+				queue.put(pending);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				removePending(pending);
+				throw new IllegalStateException("이력 저장 대기 중 인터럽트가 발생했습니다.", e);
+			}
+			lastHistoryId = pending.id();
+			return pending;
+		} finally {
+			enqueueLock.unlock();
+		}
+	}
+
+	/**
+	 * forEachByUserId 와 같이 미저장 이력을 먼저 복사한 뒤 delegate 의 이력 뒤에 아직 저장되지 않은 것만 붙인다.
+	 */
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		Deque<PointHistory> pending = pendingByUser.get(userId);
+		List<PointHistory> pendingSnapshot = pending == null ? List.of() : List.copyOf(pending);
+		List<PointHistory> persisted = delegate.selectAllByUserId(userId);
+		if (pendingSnapshot.isEmpty()) {
+			return persisted;
+		}
+		long lastPersistedId = persisted.isEmpty() ? 0L : persisted.get(persisted.size() - 1).id(); // 저장 순서대로 반환된다.
+		List<PointHistory> merged = new ArrayList<>(persisted.size() + pendingSnapshot.size());
+		merged.addAll(persisted);
+		for (PointHistory pointHistory : pendingSnapshot) {
+			if (pointHistory.id() > lastPersistedId) {
+				merged.add(pointHistory);
+			}
+		}
+		return merged;
+	}
+
+	@Override
+	public List<PointHistory> selectByUserId(long userId, PointHistoryCondition condition) {
+		List<PointHistory> page = new ArrayList<>(Math.min(condition.size(), PointHistoryCondition.MAXIMUM_SIZE));
+		forEachByUserId(userId, condition, page::add);
+		return page;
+	}
+
+	/**
+	 * 미저장 이력을 먼저 복사해 두고 delegate 의 이력을 전달한 뒤, delegate 에서 본 마지막 id 보다 큰 미저장 이력만 이어서 전달한다.
+	 * 그 사이 저장된 이력은 delegate 쪽에서 전달되므로 두 번 전달되지 않는다. 락 없이 조회하므로 action 이 느려도 저장을 막지 않는다.
+	 */
+	@Override
+	public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+		Deque<PointHistory> pending = pendingByUser.get(userId);
+		List<PointHistory> pendingSnapshot = pending == null ? List.of() : List.copyOf(pending);
+		long[] lastPersistedId = {condition.cursor()};
+		int[] matched = {0};
+		delegate.forEachByUserId(userId, condition, pointHistory -> {
+			lastPersistedId[0] = Math.max(lastPersistedId[0], pointHistory.id());
+			matched[0]++;
+			action.accept(pointHistory);
+		});
+		for (PointHistory pointHistory : pendingSnapshot) {
+			if (matched[0] >= condition.size()) {
+				return;
+			}
+			if (pointHistory.id() > lastPersistedId[0] && condition.matches(pointHistory)) {
+				action.accept(pointHistory);
+				matched[0]++;
+			}
+		}
+	}
+
+	/**
+	 * 호출 시점까지 들어온 이력이 모두 저장될 때까지 기다린다.
+	 */
+	public void flush() {
+		while (pendingCount.get() > 0 && writer.isAlive()) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+	}
+
+	public int pendingCount() {
+		return pendingCount.get();
+	}
+
+	/**
+	 * enqueueLock 안에서 종료를 표시하므로, 표시 이후에는 큐에 이력이 추가되지 않고 writer 가 큐를 비운 뒤 끝난다.
+	 */
+	@Override
+	public void close() {
+		enqueueLock.lock();
+		try {
+			running = false;
+		} finally {
+			enqueueLock.unlock();
+		}
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void runWriter() {
+		List<PointHistory> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PointHistory first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				collect(batch);
+				batch.forEach(this::persist);
+			} catch (InterruptedException e) {
+				// 종료 여부는 running 으로 판단하고, 남은 이력은 계속 저장한다.
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 배치가 찰 때까지 최대 flushInterval 동안 이력을 더 모은다.
+	 */
+	private void collect(List<PointHistory> batch) throws InterruptedException {
+		long deadline = System.nanoTime() + flushIntervalNanos;
+		queue.drainTo(batch, batchSize - batch.size());
+		while (batch.size() < batchSize && running) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return;
+			}
+			PointHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+			queue.drainTo(batch, batchSize - batch.size());
+		}
+	}
+
+	/**
+	 * 저장에 성공할 때까지 다시 시도한다. 종료 중이면 CLOSING_RETRY_LIMIT 번까지만 시도하고 미저장 이력으로 남긴다.
+	 * 저장과 재시도 대기는 락 없이 하므로 느린 저장 중에도 조회가 막히지 않는다.
+	 */
+	private void persist(PointHistory pointHistory) {
+		long retryMillis = INITIAL_RETRY_MILLIS;
+		for (int attempt = 1; ; attempt++) {
+			try {
+				PointHistory saved = delegate.save(pointHistory);
+				if (saved.id() != pointHistory.id()) {
+					log.warn("저장소가 발급한 이력 id 가 다릅니다. (발급 {}, 저장 {})", pointHistory.id(), saved.id());
+				}
+				removePending(pointHistory);
+				return;
+			} catch (RuntimeException e) {
+				if (!running && attempt >= CLOSING_RETRY_LIMIT) {
+					log.error("종료 중 포인트 이력을 저장하지 못해 미저장 이력으로 남깁니다. {}", pointHistory, e);
+					return;
+				}
+				log.warn("포인트 이력 저장에 실패해 {} ms 후 다시 시도합니다. ({}번째) {}", retryMillis, attempt, pointHistory, e);
+			}
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryMillis));
+			retryMillis = Math.min(retryMillis * 2, MAXIMUM_RETRY_MILLIS);
+		}
+	}
+
+	private void removePending(PointHistory pointHistory) {
+		pendingByUser.computeIfPresent(pointHistory.userId(), (key, pending) -> {
+			if (pending.removeFirstOccurrence(pointHistory)) {
+				pendingCount.decrementAndGet();
+			}
+			return pending.isEmpty() ? null : pending;
+		});
+	}
+}
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.hhplus.tdd.point.AsyncPointController;
+import io.hhplus.tdd.point.AsyncPointService;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+class AsyncPointControllerUnitTest {
+
+	private MockMvc mockMvc;
+
+	@Mock
+	private AsyncPointService asyncPointService;
+
+	@InjectMocks
+	private AsyncPointController asyncPointController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		mockMvc = MockMvcBuilders.standaloneSetup(asyncPointController).build();
+	}
+
+	@Test
+	@DisplayName("비동기 API - 요청 스레드를 반환한 뒤 future 가 완료되면 충전 결과를 응답한다.")
+	void charge() throws Exception {
+		// given
+		long userId = 1L;
+		CompletableFuture<UserPoint> result = new CompletableFuture<>();
+		when(asyncPointService.charge(userId, 300L)).thenReturn(result);
+
+		// when
+		MvcResult mvcResult = mockMvc.perform(patch("/async/point/{id}/charge", userId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("300"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		result.complete(new UserPoint(userId, 300L, System.currentTimeMillis()));
+
+		// then
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(userId))
+			.andExpect(jsonPath("$.point").value(300L));
+	}
+
+	@Test
+	@DisplayName("비동기 API - 조회 조건이 있으면 cursor 이후의 이력을 조회한다.")
+	void findPointHistories() throws Exception {
+		// given
+		long userId = 1L;
+		when(asyncPointService.findPointHistories(eq(userId), any(PointHistoryCondition.class))).thenReturn(
+			CompletableFuture.completedFuture(List.of(
+				new PointHistory(11L, userId, 300L, TransactionType.CHARGE, System.currentTimeMillis())
+			))
+		);
+
+		// when
+		MvcResult mvcResult = mockMvc.perform(get("/async/point/{id}/histories", userId)
+				.param("cursor", "10")
+				.param("size", "1"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].id").value(11L))
+			.andExpect(jsonPath("$[0].amount").value(300L));
+		verify(asyncPointService).findPointHistories(eq(userId), eq(PointHistoryCondition.of(10L, 1, null, null)));
+	}
+}
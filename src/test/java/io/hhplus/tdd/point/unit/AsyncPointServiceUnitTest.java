@@ -0,0 +1,174 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.AsyncPointServiceImpl;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class AsyncPointServiceUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointProperties pointProperties;
+	private AsyncPointServiceImpl asyncPointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointProperties = new PointProperties();
+		this.asyncPointService = new AsyncPointServiceImpl(
+			new PointServiceImpl(new UserPointRepositoryImpl(userPointTable), new PointHistoryRepositoryImpl(new PointHistoryTable())),
+			pointProperties
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		asyncPointService.close();
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 요청은 기다리지 않고 연달아 보내도 보낸 순서대로 반영된다.")
+	void preservesPerUserOrder() {
+		// given
+		long userId = 1L;
+		List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			results.add(asyncPointService.charge(userId, 100L));
+		}
+		results.add(asyncPointService.use(userId, 50L));
+
+		// then
+		assertThat(results).extracting(result -> result.join().point())
+			.containsExactly(100L, 200L, 300L, 400L, 500L, 450L);
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(450L);
+	}
+
+	@Test
+	@DisplayName("여러 사용자에게 한꺼번에 보낸 요청이 모두 완료되고 잔액에 반영된다.")
+	void completesBurstForManyUsers() {
+		// given
+		int users = 20;
+		int requestsPerUser = 5;
+		List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < requestsPerUser; i++) {
+			for (long userId = 100L; userId < 100L + users; userId++) {
+				results.add(asyncPointService.charge(userId, 1L));
+			}
+		}
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+		// then
+		for (long userId = 100L; userId < 100L + users; userId++) {
+			assertThat(userPointTable.selectById(userId).point()).isEqualTo(requestsPerUser);
+		}
+		assertThat(asyncPointService.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("앞선 요청이 거절되어도 이어지는 요청은 실행되고, 거절 사유는 future 로 전달된다.")
+	void continuesAfterFailure() {
+		// given
+		long userId = 2L;
+
+		// when
+		CompletableFuture<UserPoint> rejected = asyncPointService.use(userId, 100L);
+		CompletableFuture<UserPoint> charged = asyncPointService.charge(userId, 300L);
+
+		// then
+		assertThatThrownBy(rejected::join).hasCauseInstanceOf(PointValidationException.class);
+		assertThat(charged.join().point()).isEqualTo(300L);
+	}
+
+	@Test
+	@DisplayName("한 사용자의 요청은 동시에 하나만 실행되고, 서로 다른 사용자의 요청은 동시에 실행된다.")
+	void serializesPerUserAndRunsUsersConcurrently() throws InterruptedException {
+		// given
+		PointService pointService = mock(PointService.class);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximumRunningForUser = new AtomicInteger();
+		CountDownLatch otherUserStarted = new CountDownLatch(1);
+		when(pointService.charge(eq(1L), anyLong())).thenAnswer(invocation -> {
+			maximumRunningForUser.accumulateAndGet(running.incrementAndGet(), Math::max);
+			boolean concurrent = otherUserStarted.await(5, TimeUnit.SECONDS); // 다른 사용자의 요청이 동시에 실행되어야 풀린다.
+			running.decrementAndGet();
+			return new UserPoint(1L, concurrent ? 1L : 0L, 0L);
+		});
+		when(pointService.charge(eq(2L), anyLong())).thenAnswer(invocation -> {
+			otherUserStarted.countDown();
+			return new UserPoint(2L, 1L, 0L);
+		});
+		AsyncPointServiceImpl service = new AsyncPointServiceImpl(pointService, pointProperties);
+
+		// when
+		List<CompletableFuture<UserPoint>> firstUser = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			firstUser.add(service.charge(1L, 1L));
+		}
+		CompletableFuture<UserPoint> secondUser = service.charge(2L, 1L);
+		CompletableFuture.allOf(firstUser.toArray(CompletableFuture[]::new)).join();
+
+		// then
+		assertThat(secondUser.join().point()).isEqualTo(1L);
+		assertThat(firstUser).allSatisfy(result -> assertThat(result.join().point()).isEqualTo(1L));
+		assertThat(maximumRunningForUser.get()).isEqualTo(1);
+		assertThat(service.inFlight()).isZero();
+		service.close();
+	}
+
+	@Test
+	@DisplayName("종료하면 앞 요청을 기다리던 요청과 새 요청은 예외로 완료되고, 실행 중이던 요청은 끝까지 실행된다.")
+	void completesPendingRequestsOnClose() throws InterruptedException {
+		// given
+		PointService pointService = mock(PointService.class);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(pointService.charge(eq(1L), anyLong())).thenAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return new UserPoint(1L, 1L, 0L);
+		});
+		AsyncPointServiceImpl service = new AsyncPointServiceImpl(pointService, pointProperties);
+		CompletableFuture<UserPoint> running = service.charge(1L, 1L);
+		CompletableFuture<UserPoint> waiting = service.charge(1L, 1L);
+		started.await(5, TimeUnit.SECONDS);
+
+		// when
+		service.close();
+		CompletableFuture<UserPoint> late = service.charge(2L, 1L);
+		release.countDown();
+
+		// then
+		assertThat(running.join().point()).isEqualTo(1L);
+		assertThatThrownBy(waiting::join).hasCauseInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(late::join)
+			.hasCauseInstanceOf(IllegalStateException.class)
+			.hasRootCauseMessage("포인트 비동기 실행기가 종료되었습니다.");
+		assertThat(service.inFlight()).isZero();
+	}
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.CachingUserPointRepository;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class CachingUserPointRepositoryUnitTest {
+
+	private UserPointTable userPointTable;
+	private CachingUserPointRepository cachingUserPointRepository;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.cachingUserPointRepository = new CachingUserPointRepository(
+			new UserPointRepositoryImpl(userPointTable), 32
+		);
+	}
+
+	@Test
+	@DisplayName("처음 조회는 테이블에서 읽고(miss), 이후 조회는 캐시에서 읽는다(hit).")
+	void selectByIdIsCachedAfterFirstRead() {
+		// given
+		long userId = 1L;
+		userPointTable.insertOrUpdate(userId, 500L);
+
+		// when
+		cachingUserPointRepository.selectById(userId);
+		UserPoint result = cachingUserPointRepository.selectById(userId);
+
+		// then
+		assertThat(result.point()).isEqualTo(500L);
+		assertThat(cachingUserPointRepository.stats())
+			.extracting("hits", "misses", "size")
+			.containsExactly(1L, 1L, 1);
+	}
+
+	@Test
+	@DisplayName("저장하면 테이블과 캐시가 함께 갱신된다.")
+	void saveUpdatesTableAndCache() {
+		// given
+		long userId = 2L;
+		cachingUserPointRepository.selectById(userId);
+
+		// when
+		cachingUserPointRepository.save(new UserPoint(userId, 700L, System.currentTimeMillis()));
+
+		// then
+		assertThat(cachingUserPointRepository.selectById(userId).point()).isEqualTo(700L);
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(700L);
+		assertThat(cachingUserPointRepository.stats().misses()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 오래 조회되지 않은 사용자부터 제거된다.")
+	void evictsWhenMaxSizeExceeded() {
+		// when
+		for (long userId = 1; userId <= 100; userId++) {
+			cachingUserPointRepository.save(new UserPoint(userId, userId, System.currentTimeMillis()));
+		}
+
+		// then
+		CachingUserPointRepository.CacheStats stats = cachingUserPointRepository.stats();
+		assertThat(stats.size()).isLessThanOrEqualTo(32);
+		assertThat(stats.evictions()).isEqualTo(100L - stats.size());
+	}
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.TransactionType;
+
+class ColumnarPointHistoryRepositoryUnitTest {
+
+	private ColumnarPointHistoryRepository columnarPointHistoryRepository;
+
+	@BeforeEach
+	void setUp() {
+		this.columnarPointHistoryRepository = new ColumnarPointHistoryRepository();
+	}
+
+	@Test
+	@DisplayName("저장 순서대로 id 를 발급하고, 사용자별 이력을 저장 순서대로 조회한다.")
+	void saveAndSelectAllByUserId() {
+		// given
+		columnarPointHistoryRepository.save(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 10L));
+		columnarPointHistoryRepository.save(new PointHistory(0, 2L, 100L, TransactionType.CHARGE, 20L));
+
+		// when
+		PointHistory saved = columnarPointHistoryRepository.save(new PointHistory(0, 1L, 200L, TransactionType.USE, 30L));
+
+		// then
+		assertThat(saved.id()).isEqualTo(3L);
+		assertThat(columnarPointHistoryRepository.selectAllByUserId(1L)).containsExactly(
+			new PointHistory(1L, 1L, 500L, TransactionType.CHARGE, 10L),
+			new PointHistory(3L, 1L, 200L, TransactionType.USE, 30L)
+		);
+		assertThat(columnarPointHistoryRepository.selectAllByUserId(3L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("청크 경계를 넘어 저장해도 모든 이력을 조회하고, cursor 다음부터 조건에 맞는 이력만 조회한다.")
+	void selectAcrossChunks() {
+		// given
+		int rows = 200_000;
+		for (int i = 0; i < rows; i++) {
+			TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+			columnarPointHistoryRepository.save(new PointHistory(0, i % 4, i, type, i));
+		}
+
+		// when
+		List<PointHistory> all = columnarPointHistoryRepository.selectAllByUserId(3L);
+		List<PointHistory> page = columnarPointHistoryRepository.selectByUserId(
+			3L, PointHistoryCondition.of(100_000L, 3, null, null)
+		);
+
+		// then
+		assertThat(all).hasSize(rows / 4);
+		assertThat(all).extracting(PointHistory::id).isSorted();
+		assertThat(all).allSatisfy(history -> {
+			assertThat(history.amount()).isEqualTo(history.id() - 1);
+			assertThat(history.type()).isEqualTo(TransactionType.USE);
+		});
+		assertThat(page).extracting(PointHistory::id).containsExactly(100_004L, 100_008L, 100_012L);
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 저장해도 id 가 겹치지 않고, 사용자별 이력이 유실 없이 저장 순서대로 조회된다.")
+	void concurrentSave() throws InterruptedException {
+		// given
+		int threads = 8;
+		int perThread = 20_000;
+		CountDownLatch latch = new CountDownLatch(threads);
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+		// when
+		for (int t = 0; t < threads; t++) {
+			long userId = t;
+			executorService.submit(() -> {
+				try {
+					for (int i = 0; i < perThread; i++) {
+						columnarPointHistoryRepository.save(new PointHistory(0, userId, 1L, TransactionType.CHARGE, i));
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(columnarPointHistoryRepository.size()).isEqualTo((long)threads * perThread);
+		for (long userId = 0; userId < threads; userId++) {
+			List<PointHistory> histories = columnarPointHistoryRepository.selectAllByUserId(userId);
+			assertThat(histories).hasSize(perThread);
+			assertThat(histories).extracting(PointHistory::updateMillis).isSorted();
+		}
+	}
+}
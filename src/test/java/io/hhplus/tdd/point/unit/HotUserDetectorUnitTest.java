@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.HotUserDetector;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HotUserDetectorUnitTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("요청의 절반을 받는 사용자는 hot 으로, 나머지 사용자는 cold 로 판단한다.")
+	void detectHotUser() {
+		// given
+		HotUserDetector detector = HotUserDetector.create(properties(), new PointMetrics(meterRegistry));
+
+		// when
+		for (int i = 0; i < 20_000; i++) {
+			detector.record(1L);
+			detector.record(1_000L + i % 1_000);
+		}
+
+		// then
+		assertThat(detector.isHot(1L)).isTrue();
+		assertThat(detector.isHot(1_000L)).isFalse();
+		assertThat(detector.hotUserCount()).isEqualTo(1);
+		HotUserDetector.HotUser first = detector.report().candidates().get(0);
+		assertThat(first.userId()).isEqualTo(1L);
+		assertThat(first.share()).isBetween(0.45, 0.55);
+		assertThat(meterRegistry.get("point.hotkey.transitions").tag("direction", "hot").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("요청이 다른 사용자로 옮겨가면 hot 이었던 사용자는 감쇠되어 다시 cold 가 된다.")
+	void coolDown() {
+		// given
+		HotUserDetector detector = HotUserDetector.create(properties(), new PointMetrics(meterRegistry));
+		for (int i = 0; i < 20_000; i++) {
+			detector.record(1L);
+			detector.record(1_000L + i % 1_000);
+		}
+
+		// when
+		for (int i = 0; i < 20_000; i++) {
+			detector.record(2L);
+			detector.record(1_000L + i % 1_000);
+		}
+
+		// then
+		assertThat(detector.isHot(1L)).isFalse();
+		assertThat(detector.isHot(2L)).isTrue();
+		assertThat(meterRegistry.get("point.hotkey.transitions").tag("direction", "cold").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("탐지를 끄면 요청이 몰려도 hot 으로 판단하지 않는다.")
+	void disabled() {
+		// given
+		PointProperties.HotKey properties = properties();
+		properties.setEnabled(false);
+		HotUserDetector detector = HotUserDetector.create(properties);
+
+		// when
+		for (int i = 0; i < 10_000; i++) {
+			detector.record(1L);
+		}
+
+		// then
+		assertThat(detector.isHot(1L)).isFalse();
+		assertThat(detector.report().enabled()).isFalse();
+		assertThat(detector.report().candidates()).isEmpty();
+	}
+
+	private PointProperties.HotKey properties() {
+		PointProperties.HotKey properties = new PointProperties.HotKey();
+		properties.setEnabled(true);
+		properties.setSampleRate(1); // 모든 요청을 세어 결과가 항상 같도록
+		properties.setTopK(4);
+		properties.setWindow(1_000);
+		properties.setHotShare(0.1);
+		return properties;
+	}
+}
@@ -0,0 +1,151 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.WalFsyncPolicy;
+import io.hhplus.tdd.point.WalPointHistoryRepository;
+import io.hhplus.tdd.point.WriteAheadLog;
+
+class IndexedPointHistoryRepositoryUnitTest {
+
+	private PointHistoryTable pointHistoryTable;
+	private IndexedPointHistoryRepository indexedPointHistoryRepository;
+
+	@BeforeEach
+	void setUp() {
+		this.pointHistoryTable = new PointHistoryTable();
+		this.indexedPointHistoryRepository = new IndexedPointHistoryRepository(
+			new PointHistoryRepositoryImpl(pointHistoryTable)
+		);
+	}
+
+	@Test
+	@DisplayName("저장한 이력은 테이블과 인덱스에 모두 반영되고, 사용자별로 저장 순서대로 조회된다.")
+	void savedHistoriesAreIndexedByUser() {
+		// given
+		long userId = 1L;
+		long otherUserId = 2L;
+
+		// when
+		indexedPointHistoryRepository.save(history(userId, 300L, TransactionType.CHARGE));
+		indexedPointHistoryRepository.save(history(otherUserId, 100L, TransactionType.CHARGE));
+		indexedPointHistoryRepository.save(history(userId, 200L, TransactionType.USE));
+
+		// then
+		assertThat(indexedPointHistoryRepository.selectAllByUserId(userId))
+			.extracting("id", "userId", "amount", "type")
+			.containsExactly(
+				tuple(1L, userId, 300L, TransactionType.CHARGE),
+				tuple(3L, userId, 200L, TransactionType.USE)
+			);
+		assertThat(indexedPointHistoryRepository.selectAllByUserId(userId))
+			.isEqualTo(pointHistoryTable.selectAllByUserId(userId));
+	}
+
+	@Test
+	@DisplayName("이력이 없는 사용자는 빈 목록을 조회한다.")
+	void selectAllByUserIdWithoutHistory() {
+		assertThat(indexedPointHistoryRepository.selectAllByUserId(99L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("재시작 후 WAL 에서 복구한 이력을 한 번에 인덱스에 채우고, 새로 저장한 이력은 그 뒤에 붙는다.")
+	void loadsHistoriesSavedBeforeIndexing(@TempDir Path directory) {
+		// given
+		long userId = 5L;
+		try (WriteAheadLog writeAheadLog = open(directory)) {
+			WalPointHistoryRepository walPointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			walPointHistoryRepository.save(new PointHistory(0, userId, 100L, TransactionType.CHARGE, 1L));
+			walPointHistoryRepository.save(new PointHistory(0, 6L, 70L, TransactionType.CHARGE, 2L));
+			walPointHistoryRepository.save(new PointHistory(0, userId, 30L, TransactionType.USE, 3L));
+		}
+
+		try (WriteAheadLog writeAheadLog = open(directory)) {
+			IndexedPointHistoryRepository restarted = IndexedPointHistoryRepository.load(
+				new WalPointHistoryRepository(writeAheadLog)
+			);
+
+			// when
+			restarted.save(history(userId, 50L, TransactionType.CHARGE));
+
+			// then
+			assertThat(restarted.selectAllByUserId(userId))
+				.extracting("id", "amount", "type")
+				.containsExactly(
+					tuple(1L, 100L, TransactionType.CHARGE),
+					tuple(3L, 30L, TransactionType.USE),
+					tuple(4L, 50L, TransactionType.CHARGE)
+				);
+			assertThat(restarted.selectAllByUserId(6L)).extracting("amount").containsExactly(70L);
+			assertThat(restarted.selectByUserId(userId, PointHistoryCondition.of(1L, 10, null, null)))
+				.extracting("amount")
+				.containsExactly(30L, 50L);
+		}
+	}
+
+	@Test
+	@DisplayName("cursor 이후의 이력을 size 건씩 나누어 조회한다.")
+	void selectByUserIdWithCursor() {
+		// given
+		long userId = 3L;
+		for (long amount = 1; amount <= 5; amount++) {
+			indexedPointHistoryRepository.save(history(userId, amount, TransactionType.CHARGE));
+		}
+
+		// when
+		var firstPage = indexedPointHistoryRepository.selectByUserId(userId, PointHistoryCondition.of(null, 2, null, null));
+		var secondPage = indexedPointHistoryRepository.selectByUserId(
+			userId, PointHistoryCondition.of(firstPage.get(1).id(), 2, null, null)
+		);
+
+		// then
+		assertThat(firstPage).extracting("amount").containsExactly(1L, 2L);
+		assertThat(secondPage).extracting("amount").containsExactly(3L, 4L);
+	}
+
+	@Test
+	@DisplayName("updateMillis 가 [from, to) 범위에 있는 이력만 조회한다.")
+	void selectByUserIdWithTimeRange() {
+		// given
+		long userId = 4L;
+		for (long millis = 100; millis <= 500; millis += 100) {
+			indexedPointHistoryRepository.save(new PointHistory(0, userId, millis, TransactionType.CHARGE, millis));
+		}
+
+		// when
+		var histories = indexedPointHistoryRepository.selectByUserId(userId, PointHistoryCondition.of(null, null, 200L, 400L));
+
+		// then
+		assertThat(histories).extracting("updateMillis").containsExactly(200L, 300L);
+	}
+
+	@Test
+	@DisplayName("페이지 크기가 최대값을 넘으면 예외발생")
+	void pageSizeExceedingMaximum() {
+		assertThatThrownBy(() -> PointHistoryCondition.of(null, PointHistoryCondition.MAXIMUM_SIZE + 1, null, null))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("페이지 크기는 1 이상 1000 이하이어야 합니다.");
+	}
+
+	private WriteAheadLog open(Path directory) {
+		return new WriteAheadLog(directory, 1024 * 1024, WalFsyncPolicy.OS, Duration.ofMillis(1));
+	}
+
+	private PointHistory history(long userId, long amount, TransactionType type) {
+		return new PointHistory(0, userId, amount, type, System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.hhplus.tdd.point.PointBinaryCodec;
+import io.hhplus.tdd.point.PointBinaryHttpMessageConverter;
+import io.hhplus.tdd.point.PointController;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+class PointBinaryHttpMessageConverterUnitTest {
+
+	private MockMvc mockMvc;
+
+	@Mock
+	private PointService pointService;
+
+	@InjectMocks
+	private PointController pointController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		mockMvc = MockMvcBuilders.standaloneSetup(pointController)
+			.setMessageConverters(new MappingJackson2HttpMessageConverter(), new PointBinaryHttpMessageConverter())
+			.build();
+	}
+
+	@Test
+	@DisplayName("Accept 가 바이너리이면 포인트를 24바이트 little-endian 레코드로 응답한다.")
+	void findPointByIdInBinary() throws Exception {
+		// given
+		UserPoint userPoint = new UserPoint(1L, 500L, 1_700_000_000_000L);
+		when(pointService.findPointById(anyLong())).thenReturn(userPoint);
+
+		// when
+		byte[] body = mockMvc.perform(get("/point/{id}", 1L).accept(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+			.andExpect(header().longValue("Content-Length", PointBinaryCodec.USER_POINT_SIZE))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		// then
+		assertThat(body).hasSize(PointBinaryCodec.USER_POINT_SIZE);
+		assertThat(PointBinaryCodec.readUserPoint(ByteBuffer.wrap(body))).isEqualTo(userPoint);
+	}
+
+	@Test
+	@DisplayName("Accept 가 바이너리이면 이력 목록을 건수와 33바이트 레코드로 응답한다.")
+	void findPointHistoriesInBinary() throws Exception {
+		// given
+		List<PointHistory> histories = List.of(
+			new PointHistory(1L, 1L, 300L, TransactionType.CHARGE, 1_700_000_000_000L),
+			new PointHistory(2L, 1L, 200L, TransactionType.USE, 1_700_000_000_001L)
+		);
+		when(pointService.findPointHistoryAllById(anyLong())).thenReturn(histories);
+
+		// when
+		byte[] body = mockMvc.perform(get("/point/{id}/histories", 1L).accept(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		// then
+		assertThat(body).hasSize(Integer.BYTES + 2 * PointBinaryCodec.HISTORY_SIZE);
+		assertThat(PointBinaryCodec.readHistories(ByteBuffer.wrap(body))).isEqualTo(histories);
+	}
+
+	@Test
+	@DisplayName("충전 결과도 Accept 가 바이너리이면 바이너리로 응답한다.")
+	void chargeInBinary() throws Exception {
+		// given
+		UserPoint userPoint = new UserPoint(1L, 800L, 1_700_000_000_000L);
+		when(pointService.charge(anyLong(), anyLong())).thenReturn(userPoint);
+
+		// when
+		byte[] body = mockMvc.perform(patch("/point/{id}/charge", 1L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("300")
+				.accept(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsByteArray();
+
+		// then
+		assertThat(PointBinaryCodec.readUserPoint(ByteBuffer.wrap(body))).isEqualTo(userPoint);
+	}
+
+	@Test
+	@DisplayName("Accept 가 없으면 지금처럼 JSON 으로 응답한다.")
+	void defaultsToJson() throws Exception {
+		// given
+		when(pointService.findPointById(anyLong())).thenReturn(new UserPoint(1L, 500L, 1_700_000_000_000L));
+
+		// when // then
+		mockMvc.perform(get("/point/{id}", 1L))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.point").value(500L));
+	}
+
+	@Test
+	@DisplayName("버퍼 크기보다 큰 이력 목록도 나누어 쓴 뒤 그대로 읽힌다.")
+	void largeHistoryList() throws Exception {
+		// given
+		List<PointHistory> histories = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			histories.add(new PointHistory(i + 1, 7L, i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i));
+		}
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		PointBinaryCodec.write(histories, outputStream);
+
+		// then
+		assertThat(outputStream.size()).isEqualTo(PointBinaryCodec.sizeOf(histories));
+		assertThat(PointBinaryCodec.readHistories(ByteBuffer.wrap(outputStream.toByteArray()))).isEqualTo(histories);
+	}
+
+	@Test
+	@DisplayName("바이너리 본문은 같은 형식의 이력 목록으로 읽고, 잘못된 본문은 읽을 수 없다는 예외가 발생한다.")
+	void readHistories() throws Exception {
+		// given
+		PointBinaryHttpMessageConverter converter = new PointBinaryHttpMessageConverter();
+		Type type = new ParameterizedTypeReference<List<PointHistory>>() {
+		}.getType();
+		List<PointHistory> histories = List.of(new PointHistory(1L, 7L, 100L, TransactionType.CHARGE, 1_000L));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		PointBinaryCodec.write(histories, outputStream);
+
+		// when
+		Object read = converter.read(type, null, new MockHttpInputMessage(outputStream.toByteArray()));
+
+		// then
+		assertThat(converter.canRead(type, null, PointBinaryHttpMessageConverter.MEDIA_TYPE)).isTrue();
+		assertThat(read).isEqualTo(histories);
+		assertThatThrownBy(() -> converter.read(type, null, new MockHttpInputMessage(new byte[] {1, 0, 0, 0})))
+			.isInstanceOf(HttpMessageNotReadableException.class);
+	}
+}
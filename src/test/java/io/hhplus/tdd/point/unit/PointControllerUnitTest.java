@@ -6,20 +6,29 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandResult;
 import io.hhplus.tdd.point.PointController;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
 import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointTransferResult;
+import io.hhplus.tdd.point.PointValidationException;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
 
@@ -30,12 +39,10 @@ class PointControllerUnitTest {
 	@Mock
 	private PointService pointService;
 
-	@InjectMocks
-	private PointController pointController;
-
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);  // Mockito 초기화
+		PointController pointController = new PointController(pointService, new ObjectMapper()); // 스트리밍 응답은 ObjectMapper 로 직접 쓴다.
 		mockMvc = MockMvcBuilders.standaloneSetup(pointController).build();  // MockMvc 설정
 	}
 
@@ -74,6 +81,60 @@ class PointControllerUnitTest {
 			.andExpect(jsonPath("$[1].type").value("USE"));
 	}
 
+	@Test
+	@DisplayName("특정 사용자의 포인트 이력을 cursor 이후부터 size 건 조회한다.")
+	void findPointHistoriesWithCursor() throws Exception {
+		// given
+		long userId = 1L;
+		when(pointService.findPointHistories(anyLong(), any(PointHistoryCondition.class))).thenReturn(List.of(
+			new PointHistory(2L, userId, 200L, TransactionType.USE, System.currentTimeMillis())
+		));
+
+		// when // then
+		mockMvc.perform(get("/point/{id}/histories", userId)
+				.param("cursor", "1")
+				.param("size", "1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(1))
+			.andExpect(jsonPath("$[0].id").value(2L));
+		verify(pointService).findPointHistories(userId, new PointHistoryCondition(1L, 1, Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+
+	@Test
+	@DisplayName("특정 사용자의 포인트 이력을 cursor 이후부터 한 줄에 하나씩(NDJSON) 스트리밍한다.")
+	void streamPointHistoriesWithCursor() throws Exception {
+		// given
+		long userId = 1L;
+		List<PointHistory> histories = List.of(
+			new PointHistory(1L, userId, 300L, TransactionType.CHARGE, 1_000L),
+			new PointHistory(2L, userId, 200L, TransactionType.USE, 2_000L),
+			new PointHistory(3L, userId, 500L, TransactionType.CHARGE, 3_000L)
+		);
+		doAnswer(invocation -> {
+			PointHistoryCondition condition = invocation.getArgument(1);
+			Consumer<PointHistory> action = invocation.getArgument(2);
+			histories.stream().filter(condition::matches).forEach(action);
+			return null;
+		}).when(pointService).streamPointHistories(anyLong(), any(PointHistoryCondition.class), any());
+
+		// when
+		MvcResult mvcResult = mockMvc.perform(get("/point/{id}/histories/stream", userId)
+				.param("cursor", "1"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+			.andExpect(content().string("""
+				{"id":2,"userId":1,"amount":200,"type":"USE","updateMillis":2000}
+				{"id":3,"userId":1,"amount":500,"type":"CHARGE","updateMillis":3000}"""));
+		verify(pointService).streamPointHistories(
+			eq(userId), eq(PointHistoryCondition.unlimited(1L, null, null)), any()
+		);
+	}
+
 	@Test
 	@DisplayName("특정 사용자의 포인트를 충전한다.")
 	void chargePoint() throws Exception {
@@ -109,4 +170,91 @@ class PointControllerUnitTest {
 			.andExpect(jsonPath("$.id").value(userId))
 			.andExpect(jsonPath("$.point").value(300L));
 	}
+
+	@Test
+	@DisplayName("Idempotency-Key 헤더가 있으면 멱등 키와 함께 충전한다.")
+	void chargePointWithIdempotencyKey() throws Exception {
+		// given
+		long userId = 1L;
+		long amount = 500L;
+		when(pointService.charge(userId, amount, "order-1")).thenReturn(
+			new UserPoint(userId, 500L, System.currentTimeMillis()));
+
+		// when // then
+		mockMvc.perform(patch("/point/{id}/charge", userId)
+				.header("Idempotency-Key", "order-1")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(String.valueOf(amount)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.point").value(500L));
+		verify(pointService, never()).charge(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("다른 사용자에게 포인트를 이체하고 두 사용자의 잔액을 반환한다.")
+	void transfer() throws Exception {
+		// given
+		when(pointService.transfer(1L, 2L, 300L)).thenReturn(new PointTransferResult(
+			new UserPoint(1L, 200L, System.currentTimeMillis()),
+			new UserPoint(2L, 300L, System.currentTimeMillis())
+		));
+
+		// when // then
+		mockMvc.perform(patch("/point/{id}/transfer", 1L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"toUserId\": 2, \"amount\": 300}"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.from.point").value(200L))
+			.andExpect(jsonPath("$.to.id").value(2L))
+			.andExpect(jsonPath("$.to.point").value(300L));
+	}
+
+	@Test
+	@DisplayName("여러 사용자의 충전/사용 요청을 한 번에 처리하고 건별 결과를 반환한다.")
+	void batch() throws Exception {
+		// given
+		PointCommand charge = new PointCommand(1L, TransactionType.CHARGE, 500L);
+		PointCommand use = new PointCommand(2L, TransactionType.USE, 200L);
+		when(pointService.executeBatch(anyList())).thenReturn(List.of(
+			PointCommandResult.success(charge, new UserPoint(1L, 500L, System.currentTimeMillis())),
+			PointCommandResult.failure(use, new PointValidationException(
+				PointValidationException.Reason.INSUFFICIENT_POINT, "사용 가능한 포인트가 부족합니다."
+			))
+		));
+
+		// when // then
+		mockMvc.perform(post("/point/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+					[{"userId":1,"type":"CHARGE","amount":500},{"userId":2,"type":"USE","amount":200}]
+					"""))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].success").value(true))
+			.andExpect(jsonPath("$[0].point").value(500L))
+			.andExpect(jsonPath("$[1].success").value(false))
+			.andExpect(jsonPath("$[1].status").value(400))
+			.andExpect(jsonPath("$[1].reason").value("INSUFFICIENT_POINT"));
+		verify(pointService).executeBatch(List.of(charge, use));
+	}
+
+	@Test
+	@DisplayName("특정 사용자의 충전/사용 합계와 잔액 일치 여부를 조회한다.")
+	void findPointSummary() throws Exception {
+		// given
+		long userId = 1L;
+		when(pointService.findPointSummary(anyLong())).thenReturn(
+			PointSummary.of(new UserPoint(userId, 400L, System.currentTimeMillis()), 600L, 200L, 3L, 1_000L)
+		);
+
+		// when // then
+		mockMvc.perform(get("/point/{id}/summary", userId))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.userId").value(userId))
+			.andExpect(jsonPath("$.point").value(400L))
+			.andExpect(jsonPath("$.totalCharged").value(600L))
+			.andExpect(jsonPath("$.totalUsed").value(200L))
+			.andExpect(jsonPath("$.transactionCount").value(3L))
+			.andExpect(jsonPath("$.lastTransactionMillis").value(1_000L))
+			.andExpect(jsonPath("$.consistent").value(true));
+	}
 }
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointIdempotencyCache;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserLockRejectedException;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointIdempotencyCacheUnitTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("보관 시간이 지난 키는 제거되어 다시 실행된다.")
+	void expiredKeyIsExecutedAgain() throws InterruptedException {
+		// given
+		PointIdempotencyCache cache = new PointIdempotencyCache(100, Duration.ofMillis(50), new PointMetrics(meterRegistry));
+		AtomicInteger executions = new AtomicInteger();
+		cache.execute(1L, "key", 100L, TransactionType.CHARGE, () -> charge(executions));
+
+		// when
+		Thread.sleep(100);
+		cache.execute(1L, "key", 100L, TransactionType.CHARGE, () -> charge(executions));
+
+		// then
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(meterRegistry.get("point.idempotency.evicted").tag("cause", "expired").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("최대 개수를 넘으면 오래된 키부터 제거되어 개수가 제한된다.")
+	void sizeIsBounded() {
+		// given
+		int maxSize = 160; // segment(16개) 당 10개
+		PointIdempotencyCache cache = new PointIdempotencyCache(maxSize, Duration.ofMinutes(10), new PointMetrics(meterRegistry));
+		AtomicInteger executions = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < 10_000; i++) {
+			cache.execute(i, "key-" + i, 1L, TransactionType.CHARGE, () -> charge(executions));
+		}
+
+		// then
+		assertThat(cache.size()).isLessThanOrEqualTo(maxSize);
+		assertThat(meterRegistry.get("point.idempotency.evicted").tag("cause", "size").counter().count())
+			.isEqualTo(10_000 - cache.size());
+	}
+
+	@Test
+	@DisplayName("다시 시도할 수 있는 실패는 기억하지 않으므로 같은 키로 재시도하면 실행된다.")
+	void retryableFailureIsNotRemembered() {
+		// given
+		PointIdempotencyCache cache = new PointIdempotencyCache(100, Duration.ofMinutes(10), new PointMetrics(meterRegistry));
+		AtomicInteger executions = new AtomicInteger();
+		assertThatThrownBy(() -> cache.execute(1L, "key", 100L, TransactionType.CHARGE, () -> {
+			throw new UserLockRejectedException(UserLockRejectedException.Reason.TIMEOUT, "요청 처리 대기 시간을 초과했습니다.");
+		})).isInstanceOf(UserLockRejectedException.class);
+
+		// when
+		UserPoint userPoint = cache.execute(1L, "key", 100L, TransactionType.CHARGE, () -> charge(executions));
+
+		// then
+		assertThat(userPoint.point()).isEqualTo(100L);
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("멱등 키가 비어있거나 너무 길면 예외발생")
+	void keyLengthIsLimited() {
+		PointIdempotencyCache cache = new PointIdempotencyCache(100, Duration.ofMinutes(10), PointMetrics.noop());
+		String tooLong = "k".repeat(PointIdempotencyCache.MAXIMUM_KEY_LENGTH + 1);
+
+		assertThatThrownBy(() -> cache.execute(1L, tooLong, 100L, TransactionType.CHARGE, () -> null))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("멱등 키는 1자 이상 64자 이하이어야 합니다.");
+		assertThatThrownBy(() -> cache.execute(1L, "", 100L, TransactionType.CHARGE, () -> null))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private UserPoint charge(AtomicInteger executions) {
+		executions.incrementAndGet();
+		return new UserPoint(1L, 100L, System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.MeteredPointHistoryRepository;
+import io.hhplus.tdd.point.MeteredUserPointRepository;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.UserLockProvider;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointMetricsUnitTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private PointService pointService;
+	private UserLockProvider userLockProvider;
+
+	@BeforeEach
+	void setUp() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+		PointProperties pointProperties = new PointProperties();
+		this.userLockProvider = UserLockProvider.create(pointProperties.getLock(), pointMetrics);
+		pointMetrics.bindLockEntries(userLockProvider);
+		this.pointService = new PointServiceImpl(
+			new MeteredUserPointRepository(new UserPointRepositoryImpl(new UserPointTable()), pointMetrics),
+			new MeteredPointHistoryRepository(new PointHistoryRepositoryImpl(new PointHistoryTable()), pointMetrics),
+			pointProperties,
+			userLockProvider,
+			pointMetrics
+		);
+	}
+
+	@Test
+	@DisplayName("충전/사용 시 락 대기/보유 시간과 저장소 호출 시간이 기록된다.")
+	void recordLockAndRepositoryLatency() {
+		// given
+		long userId = 1L;
+
+		// when
+		pointService.charge(userId, 500L);
+		pointService.use(userId, 200L);
+
+		// then
+		assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("point.repository.latency")
+			.tag("repository", "user_point").tag("operation", "select").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("point.repository.latency")
+			.tag("repository", "point_history").tag("operation", "save").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("point.lock.entries").gauge().value()).isZero(); // 사용이 끝난 락은 정리된다.
+	}
+
+	@Test
+	@DisplayName("정책 검증에 실패한 요청은 사유별로 집계된다.")
+	void recordRejection() {
+		// given
+		long userId = 1L;
+		pointService.charge(userId, 900L);
+
+		// when
+		assertThatThrownBy(() -> pointService.charge(userId, 200L)).isInstanceOf(PointValidationException.class);
+		assertThatThrownBy(() -> pointService.use(userId, 1000L)).isInstanceOf(PointValidationException.class);
+		assertThatThrownBy(() -> pointService.use(userId, 1000L)).isInstanceOf(PointValidationException.class);
+
+		// then
+		assertThat(meterRegistry.get("point.validation.rejected")
+			.tag("reason", "exceeds_maximum").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("point.validation.rejected")
+			.tag("reason", "insufficient_point").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("point.validation.rejected")
+			.tag("reason", "non_positive_amount").counter().count()).isZero();
+	}
+}
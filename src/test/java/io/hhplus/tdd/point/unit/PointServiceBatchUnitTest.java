@@ -0,0 +1,157 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandResult;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class PointServiceBatchUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+	}
+
+	private PointService pointService(PointExecutionMode mode) {
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(mode);
+		pointProperties.getBatch().setMaxSize(100);
+		pointProperties.getBatch().setParallelism(5);
+		return new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			new PointHistoryRepositoryImpl(pointHistoryTable),
+			pointProperties
+		);
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("같은 사용자의 요청은 순서대로 처리되고, 거절된 요청은 잔액과 이력에 반영되지 않는다.")
+	void executeBatchInOrderPerUser(PointExecutionMode mode) {
+		// given
+		PointService pointService = pointService(mode);
+		List<PointCommand> commands = List.of(
+			new PointCommand(1L, TransactionType.CHARGE, 500L),
+			new PointCommand(2L, TransactionType.CHARGE, 300L),
+			new PointCommand(1L, TransactionType.USE, 700L), // 잔액 부족
+			new PointCommand(1L, TransactionType.CHARGE, 600L), // 최대 포인트 초과
+			new PointCommand(2L, TransactionType.USE, 100L),
+			new PointCommand(1L, TransactionType.USE, 200L)
+		);
+
+		// when
+		List<PointCommandResult> results = pointService.executeBatch(commands);
+
+		// then
+		assertThat(results).extracting(PointCommandResult::userId).containsExactly(1L, 2L, 1L, 1L, 2L, 1L);
+		assertThat(results).extracting(PointCommandResult::success)
+			.containsExactly(true, true, false, false, true, true);
+		assertThat(results).extracting(PointCommandResult::point)
+			.containsExactly(500L, 300L, null, null, 200L, 300L);
+		assertThat(results).extracting(PointCommandResult::reason).containsExactly(
+			null,
+			null,
+			PointValidationException.Reason.INSUFFICIENT_POINT,
+			PointValidationException.Reason.EXCEEDS_MAXIMUM,
+			null,
+			null
+		);
+
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(300L);
+		assertThat(userPointTable.selectById(2L).point()).isEqualTo(200L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(500L, 200L);
+		assertThat(pointHistoryTable.selectAllByUserId(2L)).extracting(PointHistory::amount).containsExactly(300L, 100L);
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("여러 사용자의 요청을 동시에 처리해도 사용자별 잔액은 요청 합계와 같다.")
+	void executeBatchForManyUsers(PointExecutionMode mode) {
+		// given
+		PointService pointService = pointService(mode);
+		List<PointCommand> commands = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			commands.add(new PointCommand(i % 5, TransactionType.CHARGE, 10L));
+		}
+
+		// when
+		List<PointCommandResult> results = pointService.executeBatch(commands);
+
+		// then
+		assertThat(results).allMatch(PointCommandResult::success);
+		for (long userId = 0; userId < 5; userId++) {
+			assertThat(userPointTable.selectById(userId).point()).isEqualTo(20L);
+			assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(2);
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("충전/사용 구분이 없거나 금액이 0 이하인 요청은 잔액과 무관하게 400 으로 거절되고 나머지 요청만 처리된다.")
+	void executeBatchRejectsInvalidCommands(PointExecutionMode mode) {
+		// given
+		PointService pointService = pointService(mode);
+		userPointTable.insertOrUpdate(1L, 100L);
+		List<PointCommand> commands = List.of(
+			new PointCommand(1L, null, 300L), // 구분 없음 (잔액 부족 검증을 거치지 않으면 잔액이 음수가 된다)
+			new PointCommand(1L, TransactionType.CHARGE, 0L),
+			new PointCommand(1L, TransactionType.USE, 50L)
+		);
+
+		// when
+		List<PointCommandResult> results = pointService.executeBatch(commands);
+
+		// then
+		assertThat(results).extracting(PointCommandResult::success).containsExactly(false, false, true);
+		assertThat(results).extracting(PointCommandResult::status).containsExactly(400, 400, 200);
+		assertThat(results).extracting(PointCommandResult::reason).containsExactly(
+			PointValidationException.Reason.MISSING_TYPE,
+			PointValidationException.Reason.NON_POSITIVE_AMOUNT,
+			null
+		);
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(50L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L))
+			.extracting("amount", "type")
+			.containsExactly(tuple(50L, TransactionType.USE));
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("최대 요청 수를 초과하면 처리하지 않고 예외가 발생한다.")
+	void executeBatchExceedsMaximumSize(PointExecutionMode mode) {
+		// given
+		PointService pointService = pointService(mode);
+		List<PointCommand> commands = new ArrayList<>();
+		for (int i = 0; i < 101; i++) {
+			commands.add(new PointCommand(1L, TransactionType.CHARGE, 1L));
+		}
+
+		// when // then
+		assertThatThrownBy(() -> pointService.executeBatch(commands))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(userPointTable.selectById(1L).point()).isZero();
+	}
+}
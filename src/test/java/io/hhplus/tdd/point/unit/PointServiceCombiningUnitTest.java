@@ -0,0 +1,161 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.ReferenceCountedUserLockProvider;
+import io.hhplus.tdd.point.UserLockProvider;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class PointServiceCombiningUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+	private PointService pointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(PointExecutionMode.COMBINING); // 요청 합치기 모드 사용
+		this.pointService = new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			new PointHistoryRepositoryImpl(pointHistoryTable),
+			pointProperties
+		);
+	}
+
+	@Test
+	@DisplayName("COMBINING 모드 - 단건 충전/사용은 기존과 동일하게 동작한다.")
+	void chargeAndUse() {
+		// given
+		long userId = 1L;
+		userPointTable.insertOrUpdate(userId, 100L);
+
+		// when
+		UserPoint charged = pointService.charge(userId, 500L);
+		UserPoint used = pointService.use(userId, 200L);
+
+		// then
+		assertThat(charged.point()).isEqualTo(600L);
+		assertThat(used.point()).isEqualTo(400L);
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(400L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("COMBINING 모드 - 검증에 실패한 요청은 해당 호출자에게만 예외로 전달된다.")
+	void rejectedOperation() {
+		// given
+		long userId = 2L;
+		userPointTable.insertOrUpdate(userId, 100L);
+
+		// when // then
+		assertThatThrownBy(() -> pointService.use(userId, 200L))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("사용 가능한 포인트가 부족합니다.");
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("COMBINING 모드 - 한 사용자에게 동시에 들어온 요청이 모두 반영되고 최대값 초과분만 거절된다.")
+	void concurrentCharge() throws InterruptedException {
+		// given
+		long userId = 3L;
+		int countOfThreads = 30; // 30 * 50 = 1500 이므로 최대 포인트(1000)를 넘는 10건은 거절되어야 한다.
+		ExecutorService executorService = Executors.newFixedThreadPool(countOfThreads);
+		CountDownLatch countDownLatch = new CountDownLatch(countOfThreads);
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger failCount = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < countOfThreads; i++) {
+			executorService.execute(() -> {
+				try {
+					pointService.charge(userId, 50L);
+					successCount.incrementAndGet();
+				} catch (IllegalArgumentException e) {
+					failCount.incrementAndGet();
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await();
+		executorService.shutdown();
+
+		// then
+		List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
+		assertThat(successCount.get()).isEqualTo(20);
+		assertThat(failCount.get()).isEqualTo(10);
+		assertThat(histories).hasSize(20);
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(1000L);
+	}
+
+	@Test
+	@DisplayName("COMBINING 모드 - 락을 얻지 못해 실패한 요청은 대기열에서 빠지고, 이후 요청과 함께 처리되지 않는다.")
+	void lockFailureRemovesOperation() {
+		// given
+		long userId = 4L;
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(PointExecutionMode.COMBINING);
+		FailingUserLockProvider userLockProvider = new FailingUserLockProvider();
+		PointService pointService = new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			new PointHistoryRepositoryImpl(pointHistoryTable),
+			pointProperties,
+			userLockProvider,
+			PointMetrics.noop()
+		);
+		userLockProvider.failures = 1;
+
+		// when // then
+		assertThatThrownBy(() -> pointService.charge(userId, 100L))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("lock");
+		assertThat(pointService.charge(userId, 50L).point()).isEqualTo(50L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).extracting("amount").containsExactly(50L);
+	}
+
+	private static class FailingUserLockProvider implements UserLockProvider {
+		private final UserLockProvider delegate = new ReferenceCountedUserLockProvider();
+		private volatile int failures;
+
+		@Override
+		public <T> T withLock(long userId, Supplier<T> action) {
+			if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("lock");
+			}
+			return delegate.withLock(userId, action);
+		}
+
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.HotUserDetector;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.UserLockProvider;
+import io.hhplus.tdd.point.UserPoint;
+
+class PointServiceHotKeyUnitTest {
+
+	private PrimitiveUserPointRepository userPointRepository;
+	private ColumnarPointHistoryRepository pointHistoryRepository;
+	private HotUserDetector hotUserDetector;
+	private PointServiceImpl pointService;
+
+	@BeforeEach
+	void setUp() {
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHotKey().setEnabled(true);
+		pointProperties.getHotKey().setSampleRate(1);
+		pointProperties.getHotKey().setWindow(100);
+		pointProperties.getHotKey().setHotShare(0.1);
+		this.userPointRepository = new PrimitiveUserPointRepository(16, 1);
+		this.pointHistoryRepository = new ColumnarPointHistoryRepository();
+		this.hotUserDetector = HotUserDetector.create(pointProperties.getHotKey());
+		this.pointService = new PointServiceImpl(
+			userPointRepository,
+			pointHistoryRepository,
+			pointProperties,
+			UserLockProvider.create(pointProperties.getLock()),
+			hotUserDetector,
+			PointMetrics.noop()
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointService.close();
+	}
+
+	@Test
+	@DisplayName("충전/사용 요청이 몰린 사용자는 hot 으로 탐지되고, 이후 모아서 처리해도 동시 요청이 모두 반영된다.")
+	void hotUserIsCombined() throws Exception {
+		// given
+		for (int i = 0; i < 64; i++) {
+			pointService.charge(1L, 1L);
+			pointService.use(1L, 1L);
+		}
+		assertThat(hotUserDetector.isHot(1L)).isTrue();
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(executor.submit(() -> pointService.charge(1L, 10L)));
+		}
+		for (Future<UserPoint> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(userPointRepository.selectById(1L).point()).isEqualTo(100L);
+		assertThat(pointHistoryRepository.selectAllByUserId(1L)).hasSize(138);
+		assertThat(pointService.findPointSummary(1L).consistent()).isTrue();
+	}
+}
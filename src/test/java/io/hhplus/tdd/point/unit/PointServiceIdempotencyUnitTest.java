@@ -0,0 +1,172 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.UserLockProvider;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointServiceIdempotencyUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+	private FailingPointHistoryRepository pointHistoryRepository;
+	private SimpleMeterRegistry meterRegistry;
+	private PointServiceImpl pointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+		this.pointHistoryRepository = new FailingPointHistoryRepository(pointHistoryTable);
+		this.meterRegistry = new SimpleMeterRegistry();
+
+		PointProperties pointProperties = new PointProperties();
+		PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+		this.pointService = new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			pointHistoryRepository,
+			pointProperties,
+			UserLockProvider.create(pointProperties.getLock(), pointMetrics),
+			pointMetrics
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointService.close();
+	}
+
+	@Test
+	@DisplayName("같은 멱등 키로 다시 충전하면 한 번만 반영되고 처음 결과를 그대로 반환한다.")
+	void replayReturnsOriginalResult() {
+		// given
+		long userId = 1L;
+		UserPoint first = pointService.charge(userId, 300L, "charge-1");
+
+		// when
+		UserPoint replayed = pointService.charge(userId, 300L, "charge-1");
+
+		// then
+		assertThat(replayed).isEqualTo(first);
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(300L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(1);
+		assertThat(meterRegistry.get("point.idempotency.replayed").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("거절된 요청을 같은 멱등 키로 다시 보내면 같은 사유로 거절되고, 그 사이 잔액이 바뀌어도 다시 실행하지 않는다.")
+	void replayReturnsOriginalRejection() {
+		// given
+		long userId = 2L;
+		assertThatThrownBy(() -> pointService.use(userId, 100L, "use-1"))
+			.isInstanceOf(PointValidationException.class);
+		pointService.charge(userId, 500L);
+
+		// when // then
+		assertThatThrownBy(() -> pointService.use(userId, 100L, "use-1"))
+			.isInstanceOf(PointValidationException.class)
+			.hasMessage("사용 가능한 포인트가 부족합니다.");
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(500L);
+	}
+
+	@Test
+	@DisplayName("잔액 저장 후 이력 저장이 실패한 요청을 같은 멱등 키로 다시 보내면 다시 실행하지 않고 처음 예외를 받는다.")
+	void replayReturnsOriginalFailure() {
+		// given
+		long userId = 6L;
+		pointHistoryRepository.failures = 1;
+		assertThatThrownBy(() -> pointService.charge(userId, 300L, "charge-fail"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("history");
+		long pointAfterFailure = userPointTable.selectById(userId).point();
+
+		// when // then
+		assertThatThrownBy(() -> pointService.charge(userId, 300L, "charge-fail"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("history");
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(pointAfterFailure);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("같은 멱등 키로 금액이 다른 요청을 보내면 예외가 발생하고, 키는 사용자별로 구분된다.")
+	void keyMismatchAndUserScope() {
+		// given
+		pointService.charge(3L, 100L, "same-key");
+
+		// when // then
+		assertThatThrownBy(() -> pointService.charge(3L, 200L, "same-key"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+		assertThat(pointService.charge(4L, 200L, "same-key").point()).isEqualTo(200L);
+	}
+
+	@Test
+	@DisplayName("같은 멱등 키로 동시에 재시도해도 한 번만 반영되고 모두 같은 결과를 받는다.")
+	void concurrentRetriesApplyOnce() throws Exception {
+		// given
+		long userId = 5L;
+		int countOfThreads = 20;
+		ExecutorService executorService = Executors.newFixedThreadPool(countOfThreads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<UserPoint>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < countOfThreads; i++) {
+			results.add(executorService.submit(() -> {
+				start.await();
+				return pointService.charge(userId, 100L, "retry");
+			}));
+		}
+		start.countDown();
+		List<UserPoint> userPoints = new ArrayList<>();
+		for (Future<UserPoint> result : results) {
+			userPoints.add(result.get());
+		}
+		executorService.shutdown();
+
+		// then
+		assertThat(userPoints).allSatisfy(userPoint -> assertThat(userPoint).isEqualTo(userPoints.get(0)));
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(1);
+	}
+
+	private static class FailingPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private volatile int failures;
+
+		FailingPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("history");
+			}
+			return super.save(pointHistory);
+		}
+	}
+}
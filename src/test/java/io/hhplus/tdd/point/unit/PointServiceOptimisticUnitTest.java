@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class PointServiceOptimisticUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+	private FailingPointHistoryRepository pointHistoryRepository;
+	private PointService pointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+		this.pointHistoryRepository = new FailingPointHistoryRepository(pointHistoryTable);
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(PointExecutionMode.OPTIMISTIC); // CAS 모드 사용
+		this.pointService = new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			pointHistoryRepository,
+			pointProperties
+		);
+	}
+
+	@Test
+	@DisplayName("OPTIMISTIC 모드 - 기존 잔액을 읽어 충전/사용하고 저장한다.")
+	void chargeAndUse() {
+		// given
+		long userId = 1L;
+		userPointTable.insertOrUpdate(userId, 100L);
+
+		// when
+		pointService.charge(userId, 500L);
+		pointService.use(userId, 200L);
+
+		// then
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(400L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId))
+			.extracting("amount", "type")
+			.containsExactly(tuple(500L, TransactionType.CHARGE), tuple(200L, TransactionType.USE));
+	}
+
+	@Test
+	@DisplayName("OPTIMISTIC 모드 - 검증에 실패하면 예외가 발생하고 잔액은 바뀌지 않는다.")
+	void rejectedOperation() {
+		// given
+		long userId = 2L;
+		userPointTable.insertOrUpdate(userId, 900L);
+
+		// when // then
+		assertThatThrownBy(() -> pointService.charge(userId, 200L))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("충전 후 포인트가 최대 허용 값을 초과했습니다.");
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("OPTIMISTIC 모드 - 저장에 실패한 요청은 잔액에서 되돌려지므로 다음 요청과 함께 저장되지 않는다.")
+	void failedPersistIsRolledBack() {
+		// given
+		long userId = 4L;
+		userPointTable.insertOrUpdate(userId, 100L);
+		pointHistoryRepository.failures = 1;
+
+		// when
+		assertThatThrownBy(() -> pointService.charge(userId, 500L))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("history");
+		long pointAfterFailure = userPointTable.selectById(userId).point();
+		pointService.charge(userId, 200L);
+
+		// then
+		assertThat(pointAfterFailure).isEqualTo(100L);
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(300L);
+		assertThat(pointService.findPointById(userId).point()).isEqualTo(300L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId))
+			.extracting("amount", "type")
+			.containsExactly(tuple(200L, TransactionType.CHARGE));
+	}
+
+	@Test
+	@DisplayName("OPTIMISTIC 모드 - 동시에 충전/사용이 섞여도 최종 잔액은 이력의 합계와 같다.")
+	void concurrentMixedChargeAndUse() throws InterruptedException {
+		// given
+		long userId = 3L;
+		int countOfThreads = 40;
+		Random random = new Random();
+		ExecutorService executorService = Executors.newFixedThreadPool(countOfThreads);
+		CountDownLatch countDownLatch = new CountDownLatch(countOfThreads);
+		AtomicInteger successCount = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < countOfThreads; i++) {
+			executorService.execute(() -> {
+				try {
+					long amount = random.nextInt(300) + 1;
+					if (random.nextBoolean()) {
+						pointService.charge(userId, amount);
+					} else {
+						pointService.use(userId, amount);
+					}
+					successCount.incrementAndGet();
+				} catch (IllegalArgumentException e) {
+					// 잔액 부족 또는 최대값 초과
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await();
+		executorService.shutdown();
+
+		// then
+		List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
+		long total = histories.stream()
+			.mapToLong(history -> history.type() == TransactionType.CHARGE ? history.amount() : -history.amount())
+			.sum();
+		assertThat(histories).hasSize(successCount.get());
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(total);
+	}
+
+	private static class FailingPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private volatile int failures;
+
+		FailingPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("history");
+			}
+			return super.save(pointHistory);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.ParallelPointWriter;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class PointServiceParallelWriteUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+	private FailingUserPointRepository userPointRepository;
+	private FailingPointHistoryRepository pointHistoryRepository;
+	private PointServiceImpl pointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+		this.userPointRepository = new FailingUserPointRepository(userPointTable);
+		this.pointHistoryRepository = new FailingPointHistoryRepository(pointHistoryTable);
+		this.pointService = service(PointExecutionMode.LOCK);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointService.close();
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = PointExecutionMode.class, names = {"LOCK", "COMBINING"})
+	@DisplayName("잔액과 이력을 동시에 저장해도 동시 요청이 모두 반영되고 잔액과 이력 합계가 일치한다.")
+	void concurrentCharges(PointExecutionMode mode) throws Exception {
+		// given
+		pointService.close();
+		pointService = service(mode);
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(executor.submit(() -> pointService.charge(1L, 10L)));
+		}
+		for (Future<UserPoint> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(10);
+		assertThat(pointService.findPointSummary(1L).consistent()).isTrue();
+	}
+
+	@Test
+	@DisplayName("이력 저장이 실패하면 잔액을 이전 값으로 되돌리고 예외를 던진다.")
+	void historyFailure() {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+		pointHistoryRepository.failures = 1;
+
+		// when & then
+		assertThatThrownBy(() -> pointService.charge(1L, 50L))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("history");
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이력이 일부만 저장되고 실패하면 저장된 이력만 반대 종류의 이력으로 상쇄하고 잔액은 이전 값으로 되돌린다.")
+	void partialHistoryFailure() {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+		UserPoint previous = userPointTable.selectById(1L);
+		List<PointHistory> histories = List.of(
+			new PointHistory(0, 1L, 10L, TransactionType.CHARGE, 0L),
+			new PointHistory(0, 1L, 20L, TransactionType.CHARGE, 0L)
+		);
+		pointHistoryRepository.skips = 1;
+		pointHistoryRepository.failures = 1;
+		ParallelPointWriter parallelPointWriter = new ParallelPointWriter(userPointRepository, pointHistoryRepository, 1);
+
+		// when & then
+		assertThatThrownBy(() -> parallelPointWriter.write(previous, new UserPoint(1L, 130L, 0L), histories))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("history");
+		parallelPointWriter.close();
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L))
+			.extracting("amount", "type")
+			.containsExactly(tuple(10L, TransactionType.CHARGE), tuple(10L, TransactionType.USE));
+	}
+
+	@Test
+	@DisplayName("잔액 저장이 실패하면 이미 저장된 이력을 반대 종류의 이력으로 상쇄하고 예외를 던진다.")
+	void balanceFailure() {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+		userPointRepository.failures = 1;
+
+		// when & then
+		assertThatThrownBy(() -> pointService.use(1L, 30L))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("balance");
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L))
+			.extracting("amount", "type")
+			.containsExactly(tuple(30L, TransactionType.USE), tuple(30L, TransactionType.CHARGE));
+	}
+
+	@Test
+	@DisplayName("되돌리기까지 실패하면 원래 예외에 되돌리기 실패가 suppressed 로 붙는다.")
+	void compensationFailure() {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+		userPointRepository.failures = 2;
+
+		// when & then
+		assertThatThrownBy(() -> pointService.charge(1L, 10L))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("balance")
+			.satisfies(e -> assertThat(e.getSuppressed()).extracting(Throwable::getMessage).containsExactly("balance"));
+	}
+
+	private PointServiceImpl service(PointExecutionMode mode) {
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(mode);
+		pointProperties.getParallelWrite().setEnabled(true);
+		pointProperties.getParallelWrite().setThreads(4);
+		return new PointServiceImpl(userPointRepository, pointHistoryRepository, pointProperties);
+	}
+
+	private static class FailingUserPointRepository extends UserPointRepositoryImpl {
+		private volatile int failures;
+
+		FailingUserPointRepository(UserPointTable userPointTable) {
+			super(userPointTable);
+		}
+
+		@Override
+		public UserPoint save(UserPoint userPoint) {
+			if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("balance");
+			}
+			return super.save(userPoint);
+		}
+	}
+
+	private static class FailingPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private volatile int skips; // 실패하기 전에 정상 저장할 이력 수
+		private volatile int failures;
+
+		FailingPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			if (skips > 0) {
+				skips--;
+			} else if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("history");
+			}
+			return super.save(pointHistory);
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class PointServiceReadViewUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+	private ObservedUserPointRepository userPointRepository;
+	private ObservedPointHistoryRepository pointHistoryRepository;
+	private PointServiceImpl pointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+		this.userPointRepository = new ObservedUserPointRepository(userPointTable);
+		this.pointHistoryRepository = new ObservedPointHistoryRepository(pointHistoryTable);
+		this.pointService = service(PointExecutionMode.LOCK);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointService.close();
+	}
+
+	@Test
+	@DisplayName("한 번 조회했거나 충전/사용한 사용자는 저장소를 읽지 않고 커밋된 잔액을 반환한다.")
+	void readFromView() {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+		pointService.findPointById(1L);
+		pointService.charge(1L, 50L);
+		int selects = userPointRepository.selects.get();
+
+		// when
+		UserPoint first = pointService.findPointById(1L);
+		UserPoint second = pointService.findPointById(1L);
+
+		// then
+		assertThat(first.point()).isEqualTo(150L);
+		assertThat(second.point()).isEqualTo(150L);
+		assertThat(userPointRepository.selects.get()).isEqualTo(selects);
+	}
+
+	@Test
+	@DisplayName("충전이 저장 중이어도 조회는 기다리지 않고 직전에 커밋된 잔액을 반환한다.")
+	void readDuringWrite() throws Exception {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+		pointService.findPointById(1L);
+		pointHistoryRepository.blocked = new CountDownLatch(1);
+		CompletableFuture<UserPoint> charge = CompletableFuture.supplyAsync(() -> pointService.charge(1L, 50L));
+		assertThat(pointHistoryRepository.entered.await(5, TimeUnit.SECONDS)).isTrue(); // 잔액은 저장됐고 이력 저장 중
+
+		// when
+		UserPoint duringWrite = CompletableFuture.supplyAsync(() -> pointService.findPointById(1L))
+			.get(1, TimeUnit.SECONDS);
+		pointHistoryRepository.blocked.countDown();
+		charge.get(5, TimeUnit.SECONDS);
+
+		// then
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(150L);
+		assertThat(duringWrite.point()).isEqualTo(100L);
+		assertThat(pointService.findPointById(1L).point()).isEqualTo(150L);
+	}
+
+	@Test
+	@DisplayName("저장이 실패하면 뷰에서 지우고 다음 조회 때 저장소의 잔액을 다시 읽는다.")
+	void invalidateOnFailure() {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+		pointService.findPointById(1L);
+		pointHistoryRepository.failing = true;
+
+		// when
+		assertThatThrownBy(() -> pointService.charge(1L, 50L)).isInstanceOf(IllegalStateException.class);
+		int selects = userPointRepository.selects.get();
+		UserPoint userPoint = pointService.findPointById(1L);
+
+		// then
+		assertThat(userPoint.point()).isEqualTo(userPointTable.selectById(1L).point());
+		assertThat(userPointRepository.selects.get()).isEqualTo(selects + 1);
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("동시에 충전한 뒤 조회하면 모든 모드에서 마지막으로 커밋된 잔액을 반환한다.")
+	void concurrentCharges(PointExecutionMode mode) throws Exception {
+		// given
+		pointService.close();
+		pointService = service(mode);
+		pointService.findPointById(1L);
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(executor.submit(() -> pointService.charge(1L, 10L)));
+		}
+		for (Future<UserPoint> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(pointService.findPointById(1L).point()).isEqualTo(100L);
+	}
+
+	private PointServiceImpl service(PointExecutionMode mode) {
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(mode);
+		pointProperties.getReadView().setEnabled(true);
+		return new PointServiceImpl(userPointRepository, pointHistoryRepository, pointProperties);
+	}
+
+	private static class ObservedUserPointRepository extends UserPointRepositoryImpl {
+		private final AtomicInteger selects = new AtomicInteger();
+
+		ObservedUserPointRepository(UserPointTable userPointTable) {
+			super(userPointTable);
+		}
+
+		@Override
+		public UserPoint selectById(long id) {
+			selects.incrementAndGet();
+			return super.selectById(id);
+		}
+	}
+
+	private static class ObservedPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private volatile CountDownLatch blocked;
+		private volatile boolean failing;
+
+		ObservedPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			if (failing) {
+				throw new IllegalStateException("history");
+			}
+			CountDownLatch latch = blocked;
+			if (latch != null) {
+				entered.countDown();
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return super.save(pointHistory);
+		}
+	}
+}
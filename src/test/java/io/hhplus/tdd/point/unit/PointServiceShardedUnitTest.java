@@ -0,0 +1,252 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.CommittedPointView;
+import io.hhplus.tdd.point.PointAggregator;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.ShardedPointExecutor;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserLockProvider;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointServiceShardedUnitTest {
+
+	private static final int SHARDS = 4;
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+	private SimpleMeterRegistry meterRegistry;
+	private PointServiceImpl pointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+		this.meterRegistry = new SimpleMeterRegistry();
+
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(PointExecutionMode.SHARDED); // shard 전용 스레드 모드 사용
+		pointProperties.getShard().setCount(SHARDS);
+		PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+		this.pointService = new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			new PointHistoryRepositoryImpl(pointHistoryTable),
+			pointProperties,
+			UserLockProvider.create(pointProperties.getLock(), pointMetrics),
+			pointMetrics
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointService.close();
+	}
+
+	@Test
+	@DisplayName("SHARDED 모드 - 기존 잔액을 읽어 충전/사용하고 저장한다.")
+	void chargeAndUse() {
+		// given
+		long userId = 1L;
+		userPointTable.insertOrUpdate(userId, 100L);
+
+		// when
+		pointService.charge(userId, 500L);
+		pointService.use(userId, 200L);
+
+		// then
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(400L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId))
+			.extracting("amount", "type")
+			.containsExactly(tuple(500L, TransactionType.CHARGE), tuple(200L, TransactionType.USE));
+	}
+
+	@Test
+	@DisplayName("SHARDED 모드 - 검증에 실패하면 예외가 발생하고 잔액은 바뀌지 않는다.")
+	void rejectedOperation() {
+		// given
+		long userId = 2L;
+		userPointTable.insertOrUpdate(userId, 900L);
+
+		// when // then
+		assertThatThrownBy(() -> pointService.charge(userId, 200L))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("충전 후 포인트가 최대 허용 값을 초과했습니다.");
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("SHARDED 모드 - 이력 저장이 실패하면 잔액을 이전 값으로 되돌리고, 이미 저장된 이력은 반대 종류의 이력으로 상쇄한다.")
+	void historyFailureIsRolledBack() throws InterruptedException {
+		// given
+		long userId = 5L;
+		userPointTable.insertOrUpdate(userId, 100L);
+		FailingPointHistoryRepository pointHistoryRepository = new FailingPointHistoryRepository(pointHistoryTable);
+		ShardedPointExecutor executor = new ShardedPointExecutor(
+			new UserPointRepositoryImpl(userPointTable), pointHistoryRepository,
+			new PointAggregator(pointHistoryRepository), new CommittedPointView(), 1_000L, 1, 10
+		);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.call(userId, () -> {
+			try {
+				release.await(); // 두 요청이 한 번에 꺼내져 함께 저장되도록 shard 스레드를 잡아둔다.
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		});
+		pointHistoryRepository.skips = 1; // 첫 이력만 저장되고 두 번째 이력에서 실패
+		pointHistoryRepository.failures = 1;
+
+		// when
+		CompletableFuture<UserPoint> first = executor.submit(userId, 10L, TransactionType.CHARGE);
+		CompletableFuture<UserPoint> second = executor.submit(userId, 20L, TransactionType.CHARGE);
+		release.countDown();
+
+		// then
+		assertThatThrownBy(first::join).hasRootCauseMessage("history");
+		assertThatThrownBy(second::join).hasRootCauseMessage("history");
+		executor.close();
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId))
+			.extracting("amount", "type")
+			.containsExactly(tuple(10L, TransactionType.CHARGE), tuple(10L, TransactionType.USE));
+	}
+
+	@Test
+	@DisplayName("SHARDED 모드 - 동시에 충전/사용이 섞여도 최종 잔액은 이력의 합계와 같다.")
+	void concurrentMixedChargeAndUse() throws InterruptedException {
+		// given
+		long userId = 3L;
+		int countOfThreads = 40;
+		Random random = new Random();
+		ExecutorService executorService = Executors.newFixedThreadPool(countOfThreads);
+		CountDownLatch countDownLatch = new CountDownLatch(countOfThreads);
+		AtomicInteger successCount = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < countOfThreads; i++) {
+			executorService.execute(() -> {
+				try {
+					long amount = random.nextInt(300) + 1;
+					if (random.nextBoolean()) {
+						pointService.charge(userId, amount);
+					} else {
+						pointService.use(userId, amount);
+					}
+					successCount.incrementAndGet();
+				} catch (IllegalArgumentException e) {
+					// 잔액 부족 또는 최대값 초과
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await();
+		executorService.shutdown();
+
+		// then
+		List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
+		long total = histories.stream()
+			.mapToLong(history -> history.type() == TransactionType.CHARGE ? history.amount() : -history.amount())
+			.sum();
+		assertThat(histories).hasSize(successCount.get());
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(total);
+	}
+
+	@Test
+	@DisplayName("SHARDED 모드 - shard 별 큐 대기 수가 지표로 등록되고, 처리가 끝나면 0 이다.")
+	void queueDepthGauge() {
+		// given
+		long userId = 4L;
+
+		// when
+		pointService.charge(userId, 100L);
+
+		// then
+		assertThat(meterRegistry.get("point.shard.queue.depth").gauges()).hasSize(SHARDS);
+		for (int shard = 0; shard < SHARDS; shard++) {
+			assertThat(meterRegistry.get("point.shard.queue.depth").tag("shard", String.valueOf(shard)).gauge().value())
+				.isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("SHARDED 모드 - 종료와 겹쳐 들어온 요청도 처리되거나 예외로 끝나고, 종료 후의 요청은 거절된다.")
+	void rejectsAfterClose() throws Exception {
+		// given
+		int countOfThreads = 8;
+		ExecutorService executorService = Executors.newFixedThreadPool(countOfThreads);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < countOfThreads; i++) {
+			long userId = 100L + i;
+			futures.add(executorService.submit(() -> {
+				while (true) {
+					try {
+						pointService.charge(userId, 1L);
+					} catch (RejectedExecutionException e) {
+						return; // 종료되어 거절됨
+					}
+				}
+			}));
+		}
+
+		// when
+		pointService.close();
+
+		// then
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS); // 종료 후 큐에 남은 요청이 있으면 여기서 끝나지 않는다.
+		}
+		executorService.shutdown();
+		assertThatThrownBy(() -> pointService.charge(1L, 1L))
+			.isInstanceOf(RejectedExecutionException.class)
+			.hasMessage("포인트 shard 가 종료되었습니다.");
+	}
+
+	private static class FailingPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private volatile int skips; // 실패하기 전에 정상 저장할 이력 수
+		private volatile int failures;
+
+		FailingPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			if (skips > 0) {
+				skips--;
+			} else if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("history");
+			}
+			return super.save(pointHistory);
+		}
+	}
+}
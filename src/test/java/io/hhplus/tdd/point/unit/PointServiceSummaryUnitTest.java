@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.point.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+class PointServiceSummaryUnitTest {
+
+	private PrimitiveUserPointRepository userPointRepository;
+	private ColumnarPointHistoryRepository pointHistoryRepository;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointRepository = new PrimitiveUserPointRepository(1024, 4);
+		this.pointHistoryRepository = new ColumnarPointHistoryRepository();
+	}
+
+	private PointService pointService(PointExecutionMode mode) {
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(mode);
+		return new PointServiceImpl(userPointRepository, pointHistoryRepository, pointProperties);
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("저장소에 이미 있던 이력부터 충전/사용 합계와 거래 수를 누적하고, 거절된 요청과 일괄 처리도 반영한다.")
+	void summarizeChargesAndUses(PointExecutionMode mode) {
+		// given
+		userPointRepository.save(new UserPoint(1L, 100L, 0L)); // 서비스 시작 전에 저장된 잔액과 이력
+		pointHistoryRepository.save(new PointHistory(0, 1L, 100L, TransactionType.CHARGE, 0L));
+		PointService pointService = pointService(mode);
+		pointService.charge(1L, 500L);
+		pointService.use(1L, 200L);
+		assertThatThrownBy(() -> pointService.use(1L, 1_000L)).isInstanceOf(PointValidationException.class);
+		pointService.executeBatch(List.of(
+			new PointCommand(1L, TransactionType.CHARGE, 50L),
+			new PointCommand(1L, TransactionType.USE, 30L)
+		));
+
+		// when
+		PointSummary summary = pointService.findPointSummary(1L);
+
+		// then
+		assertThat(summary)
+			.extracting("point", "totalCharged", "totalUsed", "transactionCount", "consistent")
+			.containsExactly(420L, 650L, 230L, 5L, true);
+		assertThat(summary.lastTransactionMillis()).isPositive();
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("이력 없이 잔액만 있는 사용자는 합계가 0 이고 잔액이 이력과 맞지 않는다.")
+	void summarizeBalanceWithoutHistories(PointExecutionMode mode) {
+		// given
+		PointService pointService = pointService(mode);
+		userPointRepository.save(new UserPoint(2L, 300L, 0L));
+
+		// when
+		PointSummary summary = pointService.findPointSummary(2L);
+
+		// then
+		assertThat(summary)
+			.extracting("point", "totalCharged", "totalUsed", "transactionCount", "consistent")
+			.containsExactly(300L, 0L, 0L, 0L, false);
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointExecutionMode.class)
+	@DisplayName("동시에 충전/사용해도 집계가 이력의 합계와 같고 잔액과 일치한다.")
+	void summaryMatchesHistoriesUnderConcurrency(PointExecutionMode mode) throws InterruptedException {
+		// given
+		PointService pointService = pointService(mode);
+		int countOfThreads = 16;
+		int perThread = 500;
+		ExecutorService executorService = Executors.newFixedThreadPool(countOfThreads);
+		CountDownLatch countDownLatch = new CountDownLatch(countOfThreads);
+
+		// when
+		for (int i = 0; i < countOfThreads; i++) {
+			executorService.execute(() -> {
+				try {
+					for (int j = 0; j < perThread; j++) {
+						long amount = ThreadLocalRandom.current().nextLong(1, 200);
+						try {
+							if (ThreadLocalRandom.current().nextBoolean()) {
+								pointService.charge(3L, amount);
+							} else {
+								pointService.use(3L, amount);
+							}
+						} catch (PointValidationException ignored) {
+							// 잔액 부족/최대 포인트 초과는 집계에 반영되지 않는다.
+						}
+					}
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await();
+		executorService.shutdown();
+
+		// then
+		List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(3L);
+		long totalCharged = histories.stream()
+			.filter(history -> history.type() == TransactionType.CHARGE)
+			.mapToLong(PointHistory::amount)
+			.sum();
+		long totalUsed = histories.stream()
+			.filter(history -> history.type() == TransactionType.USE)
+			.mapToLong(PointHistory::amount)
+			.sum();
+		PointSummary summary = pointService.findPointSummary(3L);
+		assertThat(summary)
+			.extracting("totalCharged", "totalUsed", "transactionCount", "consistent")
+			.containsExactly(totalCharged, totalUsed, (long)histories.size(), true);
+	}
+}
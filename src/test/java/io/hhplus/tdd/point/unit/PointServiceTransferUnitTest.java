@@ -0,0 +1,218 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointTransferResult;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserLockStrategy;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+
+class PointServiceTransferUnitTest {
+
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+	private PointServiceImpl pointService;
+
+	@BeforeEach
+	void setUp() {
+		this.userPointTable = new UserPointTable();
+		this.pointHistoryTable = new PointHistoryTable();
+		this.pointService = new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			new PointHistoryRepositoryImpl(pointHistoryTable)
+		);
+	}
+
+	@Test
+	@DisplayName("이체하면 두 잔액이 함께 바뀌고 보낸 사용자의 USE, 받은 사용자의 CHARGE 이력이 한 쌍으로 남는다.")
+	void transfer() {
+		// given
+		userPointTable.insertOrUpdate(1L, 500L);
+		userPointTable.insertOrUpdate(2L, 100L);
+
+		// when
+		PointTransferResult result = pointService.transfer(1L, 2L, 300L);
+
+		// then
+		assertThat(result.from().point()).isEqualTo(200L);
+		assertThat(result.to().point()).isEqualTo(400L);
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(200L);
+		assertThat(userPointTable.selectById(2L).point()).isEqualTo(400L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L))
+			.extracting("amount", "type")
+			.containsExactly(tuple(300L, TransactionType.USE));
+		assertThat(pointHistoryTable.selectAllByUserId(2L))
+			.extracting("amount", "type")
+			.containsExactly(tuple(300L, TransactionType.CHARGE));
+		assertThat(pointHistoryTable.selectAllByUserId(1L).get(0).updateMillis())
+			.isEqualTo(pointHistoryTable.selectAllByUserId(2L).get(0).updateMillis());
+		PointSummary summary = pointService.findPointSummary(2L);
+		assertThat(summary.totalCharged()).isEqualTo(300L);
+		assertThat(summary.consistent()).isFalse(); // 이력 없이 넣어 둔 잔액 100 은 이력과 맞지 않는다.
+	}
+
+	@Test
+	@DisplayName("받는 사용자의 이력 저장이 실패하면 두 잔액을 되돌리고, 이미 저장된 보낸 사용자의 이력은 반대 종류의 이력으로 상쇄한다.")
+	void historyFailure() {
+		// given
+		FailingPointHistoryRepository pointHistoryRepository = new FailingPointHistoryRepository(pointHistoryTable);
+		PointServiceImpl service = new PointServiceImpl(new UserPointRepositoryImpl(userPointTable), pointHistoryRepository);
+		userPointTable.insertOrUpdate(1L, 500L);
+		userPointTable.insertOrUpdate(2L, 100L);
+		pointHistoryRepository.failingUserId = 2L;
+
+		// when // then
+		assertThatThrownBy(() -> service.transfer(1L, 2L, 300L))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("history");
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(500L);
+		assertThat(userPointTable.selectById(2L).point()).isEqualTo(100L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L))
+			.extracting("amount", "type")
+			.containsExactly(tuple(300L, TransactionType.USE), tuple(300L, TransactionType.CHARGE));
+		assertThat(pointHistoryTable.selectAllByUserId(2L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("보낸 사용자의 잔액이 부족하면 예외가 발생하고 두 잔액 모두 바뀌지 않는다.")
+	void insufficientSender() {
+		// given
+		userPointTable.insertOrUpdate(1L, 100L);
+
+		// when // then
+		assertThatThrownBy(() -> pointService.transfer(1L, 2L, 300L))
+			.isInstanceOf(PointValidationException.class)
+			.hasMessage("사용 가능한 포인트가 부족합니다.");
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(100L);
+		assertThat(userPointTable.selectById(2L).point()).isZero();
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("받는 사용자의 잔액이 최대 허용 값을 넘으면 예외가 발생하고 두 잔액 모두 바뀌지 않는다.")
+	void receiverExceedsMaximum() {
+		// given
+		userPointTable.insertOrUpdate(1L, 500L);
+		userPointTable.insertOrUpdate(2L, 900L);
+
+		// when // then
+		assertThatThrownBy(() -> pointService.transfer(1L, 2L, 200L))
+			.isInstanceOf(PointValidationException.class)
+			.hasMessage("충전 후 포인트가 최대 허용 값을 초과했습니다.");
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(500L);
+		assertThat(userPointTable.selectById(2L).point()).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("자기 자신에게 이체하면 예외발생")
+	void transferToSelf() {
+		assertThatThrownBy(() -> pointService.transfer(1L, 1L, 100L))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("자기 자신에게 이체할 수 없습니다.");
+	}
+
+	@Test
+	@DisplayName("사용자 락을 쓰지 않는 OPTIMISTIC 모드는 이체를 지원하지 않는다.")
+	void optimisticModeIsNotSupported() {
+		// given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(PointExecutionMode.OPTIMISTIC);
+		PointServiceImpl optimisticService = new PointServiceImpl(
+			new UserPointRepositoryImpl(userPointTable),
+			new PointHistoryRepositoryImpl(pointHistoryTable),
+			pointProperties
+		);
+
+		// when // then
+		assertThatThrownBy(() -> optimisticService.transfer(1L, 2L, 100L))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@ParameterizedTest
+	@EnumSource(UserLockStrategy.class)
+	@DisplayName("여러 사용자 사이에 양방향 이체가 동시에 일어나도 교착 상태 없이 끝나고 전체 잔액은 유지된다.")
+	void concurrentCrossTransfers(UserLockStrategy strategy) {
+		// given
+		int users = 8;
+		int countOfTransfers = 20_000;
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setStrategy(strategy);
+		pointProperties.getLock().setStripes(2); // 서로 다른 사용자가 같은 락을 나눠 쓰도록
+		PrimitiveUserPointRepository userPointRepository = new PrimitiveUserPointRepository(users, 1);
+		for (long userId = 1; userId <= users; userId++) {
+			userPointRepository.save(new UserPoint(userId, 500L, 0L));
+		}
+		PointServiceImpl service = new PointServiceImpl(
+			userPointRepository, new ColumnarPointHistoryRepository(), pointProperties
+		);
+
+		// when
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			ExecutorService executorService = Executors.newFixedThreadPool(16);
+			CountDownLatch countDownLatch = new CountDownLatch(countOfTransfers);
+			for (int i = 0; i < countOfTransfers; i++) {
+				executorService.execute(() -> {
+					try {
+						ThreadLocalRandom random = ThreadLocalRandom.current();
+						long from = random.nextInt(users) + 1;
+						long to = (from - 1 + random.nextInt(1, users)) % users + 1; // from 이 아닌 사용자
+						service.transfer(from, to, random.nextInt(50) + 1);
+					} catch (PointValidationException e) {
+						// 잔액 부족 또는 최대값 초과
+					} finally {
+						countDownLatch.countDown();
+					}
+				});
+			}
+			countDownLatch.await();
+			executorService.shutdown();
+		});
+
+		// then
+		long total = 0;
+		for (long userId = 1; userId <= users; userId++) {
+			total += userPointRepository.selectById(userId).point();
+		}
+		assertThat(total).isEqualTo(500L * users);
+	}
+
+	private static class FailingPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private volatile long failingUserId = -1L;
+
+		FailingPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			if (pointHistory.userId() == failingUserId) {
+				throw new IllegalStateException("history");
+			}
+			return super.save(pointHistory);
+		}
+	}
+}
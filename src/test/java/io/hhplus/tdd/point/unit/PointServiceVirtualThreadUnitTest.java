@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointExecutionMode;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.PointProperties;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.UserPointRepositoryImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * virtual thread 에서 PointService 를 실행했을 때 carrier thread 가 고정(pinning)되지 않는지 JFR 이벤트로 확인한다.
+ * 소스는 Java 17 기준이므로 virtual thread executor 는 리플렉션으로 생성한다. (-PjavaVersion=21 로 실행)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class PointServiceVirtualThreadUnitTest {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private final Object monitor = new Object();
+
+	@Test
+	@DisplayName("synchronized 안에서 대기하면 pinning 이벤트가 기록된다. (검증 방법 자체의 확인)")
+	void synchronizedBlockPinsCarrierThread() throws Exception {
+		// when
+		long pinnedEvents = countPinnedEvents(() -> {
+			synchronized (monitor) {
+				sleep(20);
+			}
+		});
+
+		// then
+		assertThat(pinnedEvents).isPositive();
+	}
+
+	@Test
+	@DisplayName("LOCK 모드의 충전/사용은 virtual thread 를 pinning 하지 않는다.")
+	void lockModeDoesNotPin() throws Exception {
+		assertThat(countPinnedEvents(chargeAndUse(PointExecutionMode.LOCK))).isZero();
+	}
+
+	@Test
+	@DisplayName("COMBINING 모드의 충전/사용은 virtual thread 를 pinning 하지 않는다.")
+	void combiningModeDoesNotPin() throws Exception {
+		assertThat(countPinnedEvents(chargeAndUse(PointExecutionMode.COMBINING))).isZero();
+	}
+
+	private Runnable chargeAndUse(PointExecutionMode mode) {
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.setMode(mode);
+		PointService pointService = new PointServiceImpl(
+			new UserPointRepositoryImpl(new UserPointTable()),
+			new PointHistoryRepositoryImpl(new PointHistoryTable()),
+			pointProperties
+		);
+		return () -> {
+			long userId = ThreadLocalRandom.current().nextInt(4); // 4명의 사용자에게 요청을 나눠 락 경합을 만든다.
+			pointService.charge(userId, 10L);
+			pointService.use(userId, 5L);
+		};
+	}
+
+	/**
+	 * 20개의 virtual thread 에서 작업을 실행하는 동안 기록된 pinning 이벤트 수를 센다.
+	 */
+	private long countPinnedEvents(Runnable task) throws Exception {
+		Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO);
+			recording.start();
+
+			ExecutorService executorService = (ExecutorService)Executors.class
+				.getMethod("newVirtualThreadPerTaskExecutor")
+				.invoke(null);
+			for (int i = 0; i < 20; i++) {
+				executorService.execute(task);
+			}
+			executorService.shutdown();
+			assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+			recording.stop();
+			recording.dump(dump);
+			return RecordingFile.readAllEvents(dump).stream()
+				.filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+				.count();
+		} finally {
+			Files.deleteIfExists(dump);
+		}
+	}
+
+	private void sleep(long millis) {
+		try {
+			TimeUnit.MILLISECONDS.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
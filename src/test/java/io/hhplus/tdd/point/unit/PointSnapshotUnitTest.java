@@ -0,0 +1,188 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSnapshot;
+import io.hhplus.tdd.point.PointSnapshotScheduler;
+import io.hhplus.tdd.point.PointSnapshotStore;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.WalFsyncPolicy;
+import io.hhplus.tdd.point.WalPointHistoryRepository;
+import io.hhplus.tdd.point.WalUserPointRepository;
+import io.hhplus.tdd.point.WriteAheadLog;
+
+class PointSnapshotUnitTest {
+
+	private static final int SEGMENT_SIZE = 1024 * 1024;
+
+	@TempDir
+	Path walDirectory;
+
+	@TempDir
+	Path snapshotDirectory;
+
+	private WriteAheadLog openLog() {
+		return new WriteAheadLog(walDirectory, SEGMENT_SIZE, WalFsyncPolicy.OS, Duration.ZERO);
+	}
+
+	private PointSnapshotStore openStore() {
+		return new PointSnapshotStore(snapshotDirectory, 2, 4); // 청크 여러 개로 나뉘도록 작게
+	}
+
+	@Test
+	@DisplayName("스냅샷과 그 이후의 로그를 재생해 잔액을 복구하고, 이력 id 는 이어서 발급한다.")
+	void restoreFromSnapshotAndTail() {
+		// given
+		PointSnapshotStore snapshotStore = openStore();
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog, snapshotStore);
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			for (long id = 1; id <= 10; id++) {
+				userPointRepository.save(new UserPoint(id, id * 100, 0L));
+				pointHistoryRepository.save(new PointHistory(0, id, id * 100, TransactionType.CHARGE, id));
+			}
+			userPointRepository.snapshot(snapshotStore, pointHistoryRepository::lastHistoryId);
+			userPointRepository.save(new UserPoint(1L, 50L, 0L)); // 스냅샷 이후 변경
+			pointHistoryRepository.save(new PointHistory(0, 1L, 50L, TransactionType.USE, 11L));
+		}
+
+		// when
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			PointSnapshot snapshot = snapshotStore.snapshots().get(0);
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog, snapshotStore);
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog, snapshot);
+
+			// then
+			assertThat(snapshot.userCount()).isEqualTo(10L);
+			assertThat(snapshot.lastHistoryId()).isEqualTo(10L);
+			assertThat(userPointRepository.selectById(1L).point()).isEqualTo(50L);
+			assertThat(userPointRepository.selectById(10L).point()).isEqualTo(1000L);
+			assertThat(pointHistoryRepository.lastHistoryId()).isEqualTo(11L);
+			assertThat(pointHistoryRepository.save(new PointHistory(0, 2L, 10L, TransactionType.USE, 12L)).id())
+				.isEqualTo(12L);
+		}
+	}
+
+	@Test
+	@DisplayName("스냅샷 이전의 이력은 백그라운드에서 복구되고, 조회 시 최근 이력과 순서대로 합쳐진다.")
+	void restoreOlderHistoriesAsynchronously() {
+		// given
+		PointSnapshotStore snapshotStore = openStore();
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog, snapshotStore);
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			pointHistoryRepository.save(new PointHistory(0, 1L, 100L, TransactionType.CHARGE, 1L));
+			pointHistoryRepository.save(new PointHistory(0, 1L, 30L, TransactionType.USE, 2L));
+			userPointRepository.snapshot(snapshotStore, pointHistoryRepository::lastHistoryId);
+			pointHistoryRepository.save(new PointHistory(0, 1L, 10L, TransactionType.USE, 3L));
+		}
+
+		// when
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			WalPointHistoryRepository pointHistoryRepository =
+				new WalPointHistoryRepository(writeAheadLog, snapshotStore.snapshots().get(0));
+			List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L); // 복구가 끝날 때까지 기다린다.
+
+			// then
+			assertThat(pointHistoryRepository.isRestored()).isTrue();
+			assertThat(histories).containsExactly(
+				new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L),
+				new PointHistory(2L, 1L, 30L, TransactionType.USE, 2L),
+				new PointHistory(3L, 1L, 10L, TransactionType.USE, 3L)
+			);
+		}
+	}
+
+	@Test
+	@DisplayName("최신 스냅샷이 손상되었으면 이전 스냅샷과 그 이후의 로그로 복구한다.")
+	void fallbackToOlderSnapshot() throws IOException {
+		// given
+		PointSnapshotStore snapshotStore = openStore();
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog, snapshotStore);
+			userPointRepository.save(new UserPoint(1L, 100L, 0L));
+			userPointRepository.snapshot(snapshotStore, () -> 0L);
+			userPointRepository.save(new UserPoint(1L, 200L, 0L));
+			userPointRepository.save(new UserPoint(2L, 300L, 0L));
+			userPointRepository.snapshot(snapshotStore, () -> 0L);
+		}
+		Path newest = snapshotStore.snapshots().get(0).path();
+		Path older = snapshotStore.snapshots().get(1).path();
+		try (RandomAccessFile file = new RandomAccessFile(newest.toFile(), "rw")) {
+			file.seek(file.length() - 1); // 마지막 청크의 레코드를 훼손
+			int last = file.read();
+			file.seek(file.length() - 1);
+			file.write(~last);
+		}
+
+		// when
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog, snapshotStore);
+
+			// then
+			assertThat(userPointRepository.restoredSnapshot().path()).isEqualTo(older); // 이력 저장소도 같은 스냅샷부터 복구한다.
+			assertThat(userPointRepository.selectById(1L).point()).isEqualTo(200L);
+			assertThat(userPointRepository.selectById(2L).point()).isEqualTo(300L);
+		}
+	}
+
+	@Test
+	@DisplayName("스냅샷 주기가 0 이면 주기적으로 남기지 않고 종료할 때만 남긴다.")
+	void snapshotOnlyOnCloseWhenIntervalIsZero() {
+		// given
+		PointSnapshotStore snapshotStore = openStore();
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog, snapshotStore);
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			PointSnapshotScheduler scheduler = new PointSnapshotScheduler(
+				userPointRepository, pointHistoryRepository, snapshotStore, writeAheadLog, Duration.ZERO
+			);
+			userPointRepository.save(new UserPoint(1L, 100L, 0L));
+
+			// when
+			scheduler.close();
+
+			// then
+			assertThat(snapshotStore.snapshots()).hasSize(1);
+			assertThatThrownBy(() -> new PointSnapshotScheduler(
+				userPointRepository, pointHistoryRepository, snapshotStore, writeAheadLog, Duration.ofSeconds(-1)
+			))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("스냅샷 주기는 0 이상이어야 합니다.");
+		}
+	}
+
+	@Test
+	@DisplayName("스냅샷은 최근 retain 개만 남긴다.")
+	void retainRecentSnapshots() {
+		// given
+		PointSnapshotStore snapshotStore = openStore();
+		try (WriteAheadLog writeAheadLog = openLog()) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog, snapshotStore);
+
+			// when
+			for (int i = 1; i <= 3; i++) {
+				userPointRepository.save(new UserPoint(1L, i, 0L));
+				userPointRepository.snapshot(snapshotStore, () -> 0L);
+			}
+
+			// then
+			assertThat(snapshotStore.snapshots())
+				.hasSize(2)
+				.extracting(PointSnapshot::walPosition)
+				.isSortedAccordingTo((a, b) -> Long.compare(b, a));
+		}
+	}
+}
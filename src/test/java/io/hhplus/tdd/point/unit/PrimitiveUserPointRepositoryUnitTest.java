@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hhplus.tdd.point.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.UserPoint;
+
+class PrimitiveUserPointRepositoryUnitTest {
+
+	private PrimitiveUserPointRepository primitiveUserPointRepository;
+
+	@BeforeEach
+	void setUp() {
+		this.primitiveUserPointRepository = new PrimitiveUserPointRepository(4, 2); // resize 가 자주 일어나도록 작게
+	}
+
+	@Test
+	@DisplayName("없는 사용자를 조회하면 0 포인트를 반환한다.")
+	void selectById_userNotFound() {
+		// when
+		UserPoint result = primitiveUserPointRepository.selectById(1L);
+
+		// then
+		assertThat(result.id()).isEqualTo(1L);
+		assertThat(result.point()).isZero();
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE})
+	@DisplayName("저장한 잔액을 다시 조회하고, 같은 사용자를 저장하면 덮어쓴다. (빈 슬롯 표시로 쓰는 0 포함)")
+	void saveAndSelect(long userId) {
+		// given
+		primitiveUserPointRepository.save(new UserPoint(userId, 100L, 0L));
+
+		// when
+		UserPoint saved = primitiveUserPointRepository.save(new UserPoint(userId, 300L, 0L));
+
+		// then
+		assertThat(primitiveUserPointRepository.selectById(userId)).isEqualTo(saved);
+		assertThat(saved.point()).isEqualTo(300L);
+		assertThat(primitiveUserPointRepository.size()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("초기 용량을 넘게 저장해도 segment 가 늘어나며 모든 잔액을 유지한다.")
+	void resize() {
+		// given
+		int users = 100_000;
+
+		// when
+		for (long id = 0; id < users; id++) {
+			primitiveUserPointRepository.save(new UserPoint(id, id * 10, 0L));
+		}
+
+		// then
+		assertThat(primitiveUserPointRepository.size()).isEqualTo(users);
+		assertThat(primitiveUserPointRepository.capacity()).isGreaterThanOrEqualTo((long)(users / 0.75));
+		for (long id = 0; id < users; id++) {
+			assertThat(primitiveUserPointRepository.selectById(id).point()).isEqualTo(id * 10);
+		}
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 저장하는 동안 조회해도 저장된 잔액만 보이고, 끝나면 모든 잔액이 남아있다.")
+	void concurrentSaveAndSelect() throws InterruptedException {
+		// given
+		int threads = 8;
+		int perThread = 20_000;
+		CountDownLatch latch = new CountDownLatch(threads);
+		AtomicBoolean torn = new AtomicBoolean(false);
+		ExecutorService executorService = Executors.newFixedThreadPool(threads * 2);
+
+		// when
+		for (int t = 0; t < threads; t++) {
+			long base = (long)t * perThread;
+			executorService.submit(() -> {
+				try {
+					for (long id = base; id < base + perThread; id++) {
+						primitiveUserPointRepository.save(new UserPoint(id, id, 0L));
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+			executorService.submit(() -> {
+				while (latch.getCount() > 0) {
+					for (long id = base; id < base + perThread; id += 97) {
+						long point = primitiveUserPointRepository.selectById(id).point();
+						if (point != 0 && point != id) {
+							torn.set(true); // 다른 사용자의 값이나 중간 상태를 읽음
+						}
+					}
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(torn).isFalse();
+		assertThat(primitiveUserPointRepository.size()).isEqualTo((long)threads * perThread);
+		for (long id = 0; id < (long)threads * perThread; id++) {
+			assertThat(primitiveUserPointRepository.selectById(id).point()).isEqualTo(id);
+		}
+	}
+}
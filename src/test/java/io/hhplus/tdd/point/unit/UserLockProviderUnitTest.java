@@ -0,0 +1,214 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.ReferenceCountedUserLockProvider;
+import io.hhplus.tdd.point.StripedUserLockProvider;
+import io.hhplus.tdd.point.UserLockPolicy;
+import io.hhplus.tdd.point.UserLockProvider;
+import io.hhplus.tdd.point.UserLockRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserLockProviderUnitTest {
+
+	@Test
+	@DisplayName("참조 카운트 방식 - 락을 잡거나 기다리는 스레드가 없으면 락이 제거된다.")
+	void referenceCountedLockIsRemovedAfterUse() throws InterruptedException {
+		// given
+		UserLockProvider userLockProvider = new ReferenceCountedUserLockProvider();
+
+		// when
+		runConcurrently(userLockProvider, 1000);
+
+		// then
+		assertThat(userLockProvider.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("참조 카운트 방식 - 락을 잡고 있는 동안에는 락이 유지된다.")
+	void referenceCountedLockIsKeptWhileHeld() {
+		// given
+		UserLockProvider userLockProvider = new ReferenceCountedUserLockProvider();
+
+		// when
+		int sizeWhileHeld = userLockProvider.withLock(1L, userLockProvider::size);
+
+		// then
+		assertThat(sizeWhileHeld).isEqualTo(1);
+		assertThat(userLockProvider.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("stripe 방식 - stripe 개수는 2의 거듭제곱으로 올림되고 사용자 수와 무관하게 유지된다.")
+	void stripedLockCountIsFixed() throws InterruptedException {
+		// given
+		UserLockProvider userLockProvider = new StripedUserLockProvider(100);
+
+		// when
+		runConcurrently(userLockProvider, 1000);
+
+		// then
+		assertThat(userLockProvider.size()).isEqualTo(128);
+	}
+
+	@Test
+	@DisplayName("stripe 개수가 0 이하이면 예외발생")
+	void stripedLockCountMustBePositive() {
+		assertThatThrownBy(() -> new StripedUserLockProvider(0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("stripe 개수는 양수이어야 합니다.");
+	}
+
+	@Test
+	@DisplayName("락 대기 시간을 넘기면 TIMEOUT 으로 거절되고 임계영역은 실행되지 않으며, 락은 정리된다.")
+	void rejectsAfterTimeout() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		UserLockProvider userLockProvider = new ReferenceCountedUserLockProvider(
+			new PointMetrics(meterRegistry), new UserLockPolicy(false, Duration.ofMillis(50), 0)
+		);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = holdLock(userLockProvider, 1L, release, executorService);
+		boolean[] executed = {false};
+
+		// when // then
+		assertThatThrownBy(() -> userLockProvider.withLock(1L, () -> executed[0] = true))
+			.isInstanceOf(UserLockRejectedException.class)
+			.extracting("reason")
+			.isEqualTo(UserLockRejectedException.Reason.TIMEOUT);
+		release.countDown();
+		holder.get(5, TimeUnit.SECONDS);
+		executorService.shutdown();
+		assertThat(executed[0]).isFalse();
+		assertThat(userLockProvider.size()).isZero();
+		assertThat(meterRegistry.get("point.lock.rejected").tag("reason", "timeout").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 락을 기다리는 요청이 최대 대기열 길이에 도달하면 기다리지 않고 QUEUE_FULL 로 거절된다.")
+	void rejectsWhenQueueIsFull() throws Exception {
+		// given
+		UserLockProvider userLockProvider = new StripedUserLockProvider(
+			16, PointMetrics.noop(), new UserLockPolicy(true, Duration.ZERO, 1)
+		);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = holdLock(userLockProvider, 1L, release, executorService);
+		CountDownLatch waiterEntered = new CountDownLatch(1);
+		CompletableFuture<Integer> waiter = CompletableFuture.supplyAsync(() -> {
+			waiterEntered.countDown();
+			return userLockProvider.withLock(1L, () -> 1);
+		}, executorService);
+		waiterEntered.await();
+		Thread.sleep(100); // waiter 가 락 대기열에 들어갈 때까지
+
+		// when // then
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> userLockProvider.withLock(1L, () -> 2))
+			.isInstanceOf(UserLockRejectedException.class)
+			.extracting("reason")
+			.isEqualTo(UserLockRejectedException.Reason.QUEUE_FULL);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+		release.countDown();
+		holder.get(5, TimeUnit.SECONDS);
+		assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+		executorService.shutdown();
+		assertThat(userLockProvider.withLock(1L, () -> 3)).isEqualTo(3); // 대기열이 비면 다시 받는다.
+	}
+
+	@Test
+	@DisplayName("stripe 방식 - 같은 stripe 의 두 사용자 락을 함께 잡을 때는 다른 요청이 기다리고 있어도 QUEUE_FULL 로 거절되지 않는다.")
+	void reentersHeldStripe() throws Exception {
+		// given
+		UserLockProvider userLockProvider = new StripedUserLockProvider(
+			1, PointMetrics.noop(), new UserLockPolicy(false, Duration.ZERO, 1)
+		);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		CountDownLatch outerAcquired = new CountDownLatch(1);
+		CountDownLatch waiterQueued = new CountDownLatch(1);
+
+		// when
+		CompletableFuture<Integer> transfer = CompletableFuture.supplyAsync(() -> userLockProvider.withLock(1L, () -> {
+			outerAcquired.countDown();
+			try {
+				waiterQueued.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return userLockProvider.withLock(2L, () -> 2); // withLocks 가 두 번째 락을 잡는 방식
+		}), executorService);
+		outerAcquired.await();
+		CompletableFuture<Integer> waiter = CompletableFuture.supplyAsync(
+			() -> userLockProvider.withLock(3L, () -> 3), executorService
+		);
+		Thread.sleep(100); // waiter 가 락 대기열에 들어갈 때까지
+		waiterQueued.countDown();
+
+		// then
+		assertThat(transfer.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+		assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+		executorService.shutdown();
+	}
+
+	/**
+	 * 다른 스레드에서 release 가 열릴 때까지 사용자 락을 잡고 있는다. 락을 잡은 뒤에 반환한다.
+	 */
+	private CompletableFuture<Void> holdLock(
+		UserLockProvider userLockProvider,
+		long userId,
+		CountDownLatch release,
+		ExecutorService executorService
+	) throws InterruptedException {
+		CountDownLatch acquired = new CountDownLatch(1);
+		CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> userLockProvider.withLock(userId, () -> {
+			acquired.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}), executorService);
+		acquired.await();
+		return holder;
+	}
+
+	/**
+	 * 10명의 사용자에 대해 동시에 임계영역을 실행하고, 사용자별로 한 번에 하나의 스레드만 들어왔는지 확인한다.
+	 */
+	private void runConcurrently(UserLockProvider userLockProvider, int countOfTasks) throws InterruptedException {
+		int numberOfUsers = 10;
+		int[] counters = new int[numberOfUsers]; // 락 없이 증가시키면 유실이 생기는 일반 배열
+		ExecutorService executorService = Executors.newFixedThreadPool(16);
+		CountDownLatch countDownLatch = new CountDownLatch(countOfTasks);
+
+		for (int i = 0; i < countOfTasks; i++) {
+			int userId = i % numberOfUsers;
+			executorService.execute(() -> {
+				try {
+					userLockProvider.withLock(userId, () -> counters[userId]++);
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await();
+		executorService.shutdown();
+
+		for (int counter : counters) {
+			assertThat(counter).isEqualTo(countOfTasks / numberOfUsers);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.WalFsyncPolicy;
+import io.hhplus.tdd.point.WalPointHistoryRepository;
+import io.hhplus.tdd.point.WalUserPointRepository;
+import io.hhplus.tdd.point.WriteAheadLog;
+
+class WriteAheadLogUnitTest {
+
+	private static final int SEGMENT_SIZE = 1024 * 1024;
+
+	@TempDir
+	Path directory;
+
+	private WriteAheadLog open(int segmentSize, WalFsyncPolicy fsyncPolicy) {
+		return new WriteAheadLog(directory, segmentSize, fsyncPolicy, Duration.ofMillis(1));
+	}
+
+	@Test
+	@DisplayName("다시 열면 로그를 재생해 마지막 잔액과 이력을 복구한다.")
+	void recoverAfterReopen() {
+		// given
+		try (WriteAheadLog writeAheadLog = open(SEGMENT_SIZE, WalFsyncPolicy.OS)) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog);
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			userPointRepository.save(new UserPoint(1L, 500L, 0L));
+			pointHistoryRepository.save(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 10L));
+			userPointRepository.save(new UserPoint(1L, 300L, 0L));
+			pointHistoryRepository.save(new PointHistory(0, 1L, 200L, TransactionType.USE, 20L));
+			userPointRepository.save(new UserPoint(2L, 100L, 0L));
+			pointHistoryRepository.save(new PointHistory(0, 2L, 100L, TransactionType.CHARGE, 30L));
+		}
+
+		// when
+		try (WriteAheadLog writeAheadLog = open(SEGMENT_SIZE, WalFsyncPolicy.OS)) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog);
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+
+			// then
+			assertThat(userPointRepository.selectById(1L).point()).isEqualTo(300L);
+			assertThat(userPointRepository.selectById(2L).point()).isEqualTo(100L);
+			assertThat(userPointRepository.selectById(3L).point()).isZero();
+			assertThat(pointHistoryRepository.selectAllByUserId(1L)).containsExactly(
+				new PointHistory(1L, 1L, 500L, TransactionType.CHARGE, 10L),
+				new PointHistory(2L, 1L, 200L, TransactionType.USE, 20L)
+			);
+			assertThat(pointHistoryRepository.save(new PointHistory(0, 2L, 50L, TransactionType.USE, 40L)).id())
+				.isEqualTo(4L); // 복구한 마지막 id 다음부터 발급
+		}
+	}
+
+	@Test
+	@DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 다시 열어도 모든 레코드를 순서대로 읽는다.")
+	void rollSegments() throws IOException {
+		// given
+		try (WriteAheadLog writeAheadLog = open(256, WalFsyncPolicy.PER_OP)) {
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			for (int i = 1; i <= 100; i++) {
+				pointHistoryRepository.save(new PointHistory(0, 1L, i, TransactionType.CHARGE, i));
+			}
+			assertThat(writeAheadLog.segmentCount()).isGreaterThan(1);
+		}
+
+		// when
+		try (WriteAheadLog writeAheadLog = open(256, WalFsyncPolicy.PER_OP)) {
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+
+			// then
+			assertThat(pointHistoryRepository.selectAllByUserId(1L))
+				.extracting(PointHistory::amount)
+				.containsExactlyElementsOf(Stream.iterate(1L, i -> i + 1).limit(100).toList());
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files.count()).isGreaterThan(1);
+		}
+	}
+
+	@Test
+	@DisplayName("마지막 레코드의 CRC 가 맞지 않으면 해당 레코드를 버리고 그 자리부터 이어서 기록한다.")
+	void discardTornTail() throws IOException {
+		// given
+		long tornRecordEnd;
+		try (WriteAheadLog writeAheadLog = open(SEGMENT_SIZE, WalFsyncPolicy.OS)) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog);
+			userPointRepository.save(new UserPoint(1L, 100L, 0L));
+			userPointRepository.save(new UserPoint(1L, 200L, 0L));
+			tornRecordEnd = writeAheadLog.position();
+		}
+		Path segment;
+		try (Stream<Path> files = Files.list(directory)) {
+			segment = files.findFirst().orElseThrow();
+		}
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.seek(tornRecordEnd - 1); // 마지막 레코드 본문의 마지막 바이트를 훼손
+			int last = file.read();
+			file.seek(tornRecordEnd - 1);
+			file.write(~last);
+		}
+
+		// when
+		try (WriteAheadLog writeAheadLog = open(SEGMENT_SIZE, WalFsyncPolicy.OS)) {
+			WalUserPointRepository userPointRepository = new WalUserPointRepository(writeAheadLog);
+
+			// then
+			assertThat(userPointRepository.selectById(1L).point()).isEqualTo(100L);
+			userPointRepository.save(new UserPoint(1L, 300L, 0L));
+		}
+		try (WriteAheadLog writeAheadLog = open(SEGMENT_SIZE, WalFsyncPolicy.OS)) {
+			assertThat(new WalUserPointRepository(writeAheadLog).selectById(1L).point()).isEqualTo(300L);
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(WalFsyncPolicy.class)
+	@DisplayName("여러 스레드가 동시에 기록해도 모든 레코드가 유실 없이 복구된다.")
+	void concurrentAppend(WalFsyncPolicy fsyncPolicy) throws InterruptedException {
+		// given
+		int threads = 8;
+		int perThread = 200;
+		CountDownLatch latch = new CountDownLatch(threads);
+
+		// when
+		try (WriteAheadLog writeAheadLog = open(4096, fsyncPolicy)) {
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			ExecutorService executorService = Executors.newFixedThreadPool(threads);
+			for (int t = 0; t < threads; t++) {
+				long userId = t;
+				executorService.submit(() -> {
+					try {
+						for (int i = 0; i < perThread; i++) {
+							pointHistoryRepository.save(new PointHistory(0, userId, 1L, TransactionType.CHARGE, i));
+						}
+					} finally {
+						latch.countDown();
+					}
+				});
+			}
+			latch.await();
+			executorService.shutdown();
+		}
+
+		// then
+		try (WriteAheadLog writeAheadLog = open(4096, fsyncPolicy)) {
+			WalPointHistoryRepository pointHistoryRepository = new WalPointHistoryRepository(writeAheadLog);
+			for (long userId = 0; userId < threads; userId++) {
+				List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+				assertThat(histories).hasSize(perThread);
+				assertThat(histories).extracting(PointHistory::updateMillis)
+					.isSorted(); // 같은 스레드가 기록한 순서 유지
+			}
+		}
+	}
+}
@@ -0,0 +1,262 @@
+package io.hhplus.tdd.point.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.WriteBehindPointHistoryRepository;
+
+class WriteBehindPointHistoryRepositoryUnitTest {
+
+	private PointHistoryTable pointHistoryTable;
+	private WriteBehindPointHistoryRepository writeBehindPointHistoryRepository;
+
+	@BeforeEach
+	void setUp() {
+		this.pointHistoryTable = new PointHistoryTable();
+		this.writeBehindPointHistoryRepository = new WriteBehindPointHistoryRepository(
+			new PointHistoryRepositoryImpl(pointHistoryTable), 10, 5, Duration.ofMillis(5)
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		writeBehindPointHistoryRepository.close();
+	}
+
+	@Test
+	@DisplayName("저장 직후 조회하면 아직 테이블에 쓰이지 않은 이력도 순서대로 함께 조회된다.")
+	void selectAllByUserIdIncludesPendingHistories() {
+		// given
+		long userId = 1L;
+
+		// when
+		writeBehindPointHistoryRepository.save(history(userId, 300L, TransactionType.CHARGE));
+		writeBehindPointHistoryRepository.save(history(userId, 200L, TransactionType.USE));
+
+		// then
+		assertThat(writeBehindPointHistoryRepository.selectAllByUserId(userId))
+			.extracting("userId", "amount", "type")
+			.containsExactly(
+				tuple(userId, 300L, TransactionType.CHARGE),
+				tuple(userId, 200L, TransactionType.USE)
+			);
+	}
+
+	@Test
+	@DisplayName("flush 하면 대기 중인 이력이 모두 테이블에 저장된다.")
+	void flushPersistsAllPendingHistories() {
+		// given
+		long userId = 2L;
+		for (int i = 1; i <= 10; i++) {
+			writeBehindPointHistoryRepository.save(history(userId, i, TransactionType.CHARGE));
+		}
+
+		// when
+		writeBehindPointHistoryRepository.flush();
+
+		// then
+		assertThat(writeBehindPointHistoryRepository.pendingCount()).isZero();
+		assertThat(pointHistoryTable.selectAllByUserId(userId))
+			.extracting("amount")
+			.containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+	}
+
+	@Test
+	@DisplayName("종료하면 남은 이력을 저장하고, 이후 저장 요청은 예외발생")
+	void closeFlushesAndRejectsNewHistories() {
+		// given
+		long userId = 3L;
+		writeBehindPointHistoryRepository.save(history(userId, 100L, TransactionType.CHARGE));
+
+		// when
+		writeBehindPointHistoryRepository.close();
+
+		// then
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(1);
+		assertThatThrownBy(() -> writeBehindPointHistoryRepository.save(history(userId, 100L, TransactionType.USE)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("이력 저장소가 종료되었습니다.");
+	}
+
+	@Test
+	@DisplayName("저장이 실패한 이력은 버리지 않고 다시 시도해 저장한다.")
+	void retriesFailedHistories() {
+		// given
+		FailingPointHistoryRepository delegate = new FailingPointHistoryRepository(pointHistoryTable);
+		delegate.failures = 2;
+		long userId = 4L;
+
+		try (WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(
+			delegate, 10, 5, Duration.ofMillis(5)
+		)) {
+			// when
+			repository.save(history(userId, 100L, TransactionType.CHARGE));
+			repository.flush();
+
+			// then
+			assertThat(delegate.failures).isZero();
+			assertThat(repository.pendingCount()).isZero();
+			assertThat(pointHistoryTable.selectAllByUserId(userId))
+				.extracting("amount")
+				.containsExactly(100L);
+		}
+	}
+
+	@Test
+	@DisplayName("미저장 이력도 저장될 id 를 가지므로 저장 전후 모두 cursor 로 다음 페이지를 조회할 수 있다.")
+	void pagesPendingHistoriesByCursor() {
+		// given
+		FailingPointHistoryRepository delegate = new FailingPointHistoryRepository(pointHistoryTable);
+		delegate.failures = Integer.MAX_VALUE;
+		long userId = 5L;
+
+		try (WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(
+			delegate, 10, 5, Duration.ofMillis(5)
+		)) {
+			List<PointHistory> saved = List.of(
+				repository.save(history(userId, 100L, TransactionType.CHARGE)),
+				repository.save(history(userId, 200L, TransactionType.CHARGE)),
+				repository.save(history(userId, 300L, TransactionType.USE))
+			);
+			PointHistoryCondition nextPage = PointHistoryCondition.of(saved.get(0).id(), 10, null, null);
+
+			// when
+			List<PointHistory> pending = repository.selectByUserId(userId, nextPage);
+			delegate.failures = 0;
+			repository.flush();
+			List<PointHistory> persisted = repository.selectByUserId(userId, nextPage);
+
+			// then
+			assertThat(saved).extracting("id").containsExactly(1L, 2L, 3L);
+			assertThat(pending).extracting("id", "amount").containsExactly(tuple(2L, 200L), tuple(3L, 300L));
+			assertThat(persisted).isEqualTo(pending);
+		}
+	}
+
+	@Test
+	@DisplayName("delegate 저장이 오래 걸려도 조회는 기다리지 않고, 저장된 뒤 미저장 목록에서 지워지기 전에도 중복 없이 조회된다.")
+	void readsDoNotWaitForSlowSave() throws Exception {
+		// given
+		BlockingPointHistoryRepository delegate = new BlockingPointHistoryRepository(pointHistoryTable);
+		long userId = 6L;
+
+		try (WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(
+			delegate, 10, 5, Duration.ofMillis(5)
+		)) {
+			repository.save(history(userId, 100L, TransactionType.CHARGE));
+			assertThat(delegate.saved.await(5, TimeUnit.SECONDS)).isTrue(); // 테이블에 저장되고 미저장 목록에는 남아 있는 상태
+
+			// when
+			List<PointHistory> whileSaving = CompletableFuture.supplyAsync(() -> repository.selectAllByUserId(userId))
+				.get(1, TimeUnit.SECONDS);
+			delegate.release.countDown();
+			repository.flush();
+
+			// then
+			assertThat(whileSaving).extracting("id", "amount").containsExactly(tuple(1L, 100L));
+			assertThat(repository.selectAllByUserId(userId)).extracting("id", "amount").containsExactly(tuple(1L, 100L));
+		}
+	}
+
+	@Test
+	@DisplayName("저장과 종료가 동시에 일어나도 저장에 성공한 이력은 모두 테이블에 남는다.")
+	void closeDoesNotStrandConcurrentSaves() throws InterruptedException {
+		// given
+		int countOfThreads = 8;
+		ColumnarPointHistoryRepository delegate = new ColumnarPointHistoryRepository(); // 지연 없이 저장
+		WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(
+			delegate, 1_000, 100, Duration.ofMillis(1)
+		);
+		AtomicInteger accepted = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(countOfThreads);
+		ExecutorService executorService = Executors.newFixedThreadPool(countOfThreads);
+		for (int i = 0; i < countOfThreads; i++) {
+			long userId = 100L + i;
+			executorService.execute(() -> {
+				started.countDown();
+				try {
+					while (true) {
+						repository.save(history(userId, 1L, TransactionType.CHARGE));
+						accepted.incrementAndGet();
+					}
+				} catch (IllegalStateException e) {
+					// 종료 이후의 저장 요청
+				}
+			});
+		}
+		started.await();
+
+		// when
+		repository.close();
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+		// then
+		assertThat(delegate.size()).isEqualTo(accepted.get());
+		assertThat(repository.pendingCount()).isZero();
+	}
+
+	private PointHistory history(long userId, long amount, TransactionType type) {
+		return new PointHistory(0, userId, amount, type, System.currentTimeMillis());
+	}
+
+	private static class FailingPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private volatile int failures;
+
+		FailingPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("history");
+			}
+			return super.save(pointHistory);
+		}
+	}
+
+	/**
+	 * 테이블에 저장한 뒤 release 될 때까지 반환하지 않는다.
+	 */
+	private static class BlockingPointHistoryRepository extends PointHistoryRepositoryImpl {
+		private final CountDownLatch saved = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		BlockingPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+			super(pointHistoryTable);
+		}
+
+		@Override
+		public PointHistory save(PointHistory pointHistory) {
+			PointHistory result = super.save(pointHistory);
+			saved.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return result;
+		}
+	}
+}